@@ -0,0 +1,148 @@
+package com.food.ordering.system.benchmarks.kafka;
+
+import com.food.ordering.system.kafka.order.avro.model.*;
+import com.food.ordering.system.kafka.serialization.PooledAvroDeserializer;
+import com.food.ordering.system.kafka.serialization.PooledAvroSerializer;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Confluent Avro serde with the pooled one from kafka-serialization on each message of the saga, against
+ * an in-memory mock:// schema registry. Run with the GC profiler (always on in BenchmarkRunner) for allocs/op; the
+ * serialized size of every message is printed once during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvroSerializationBenchmark {
+
+    public enum Serde {
+        CONFLUENT, POOLED
+    }
+
+    private static final String SCOPE = "avro-serialization-benchmark";
+
+    @Param({"PAYMENT_REQUEST", "PAYMENT_RESPONSE", "RESTAURANT_APPROVAL_REQUEST", "RESTAURANT_APPROVAL_RESPONSE"})
+    private String model;
+
+    @Param({"CONFLUENT", "POOLED"})
+    private Serde serde;
+
+    private Serializer<SpecificRecordBase> serializer;
+    private Deserializer<SpecificRecordBase> deserializer;
+    private SpecificRecordBase message;
+    private String topic;
+    private byte[] bytes;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Map<String, Object> configs = Map.of(
+                "schema.registry.url", "mock://" + SCOPE,
+                "specific.avro.reader", true);
+        serializer = serde == Serde.CONFLUENT
+                ? (Serializer<SpecificRecordBase>) (Serializer<?>) new KafkaAvroSerializer()
+                : new PooledAvroSerializer<>();
+        deserializer = serde == Serde.CONFLUENT
+                ? (Deserializer<SpecificRecordBase>) (Deserializer<?>) new KafkaAvroDeserializer()
+                : new PooledAvroDeserializer<>();
+        serializer.configure(configs, false);
+        deserializer.configure(configs, false);
+
+        message = createMessage();
+        topic = model.toLowerCase().replace('_', '-');
+        bytes = serializer.serialize(topic, message);
+        System.out.printf("%s %s serialized size: %d bytes/op%n", serde, model, bytes.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+        MockSchemaRegistry.dropScope(SCOPE);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(topic, message);
+    }
+
+    @Benchmark
+    public SpecificRecordBase deserialize() {
+        return deserializer.deserialize(topic, bytes);
+    }
+
+    @Benchmark
+    public SpecificRecordBase roundTrip() {
+        return deserializer.deserialize(topic, serializer.serialize(topic, message));
+    }
+
+    private SpecificRecordBase createMessage() {
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        BigDecimal price = new BigDecimal("200.00");
+        return switch (model) {
+            case "PAYMENT_REQUEST" -> PaymentRequestAvroModel.newBuilder()
+                    .setId(uuid())
+                    .setSagaId(uuid())
+                    .setCustomerId(uuid())
+                    .setOrderId(uuid())
+                    .setPrice(price)
+                    .setCreatedAt(createdAt)
+                    .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                    .build();
+            case "PAYMENT_RESPONSE" -> PaymentResponseAvroModel.newBuilder()
+                    .setId(uuid())
+                    .setSagaId(uuid())
+                    .setPaymentId(uuid())
+                    .setCustomerId(uuid())
+                    .setOrderId(uuid())
+                    .setPrice(price)
+                    .setCreatedAt(createdAt)
+                    .setPaymentStatus(PaymentStatus.COMPLETED)
+                    .setFailureMessages(List.of())
+                    .build();
+            case "RESTAURANT_APPROVAL_REQUEST" -> RestaurantApprovalRequestAvroModel.newBuilder()
+                    .setId(uuid())
+                    .setSagaId(uuid())
+                    .setRestaurantId(uuid())
+                    .setOrderId(uuid())
+                    .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                    .setProducts(List.of(
+                            Product.newBuilder().setId(uuid()).setQuantity(1).build(),
+                            Product.newBuilder().setId(uuid()).setQuantity(3).build()))
+                    .setPrice(price)
+                    .setCreatedAt(createdAt)
+                    .build();
+            case "RESTAURANT_APPROVAL_RESPONSE" -> RestaurantApprovalResponseAvroModel.newBuilder()
+                    .setId(uuid())
+                    .setSagaId(uuid())
+                    .setRestaurantId(uuid())
+                    .setOrderId(uuid())
+                    .setCreatedAt(createdAt)
+                    .setOrderApprovalStatus(OrderApprovalStatus.APPROVED)
+                    .setFailureMessages(List.of())
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown model " + model);
+        };
+    }
+
+    private static String uuid() {
+        return UUID.randomUUID().toString();
+    }
+}
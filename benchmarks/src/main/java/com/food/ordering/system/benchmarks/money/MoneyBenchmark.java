@@ -0,0 +1,55 @@
+package com.food.ordering.system.benchmarks.money;
+
+import com.food.ordering.system.domain.vo.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the long-cents {@link Money} reduce chain with the previous BigDecimal implementation, which rescaled and
+ * allocated a new BigDecimal on every step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int count;
+
+    private List<BigDecimal> amounts;
+    private List<Money> monies;
+    private BigDecimal expectedAmount;
+    private Money expectedMoney;
+
+    @Setup
+    public void setUp() {
+        amounts = IntStream.range(0, count)
+                .mapToObj(i -> BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(100, 100_000), 2))
+                .toList();
+        monies = amounts.stream().map(Money::new).toList();
+        expectedAmount = amounts.stream().reduce(BigDecimal.ZERO, BigDecimal::add).setScale(2, RoundingMode.HALF_EVEN);
+        expectedMoney = new Money(expectedAmount);
+    }
+
+    @Benchmark
+    public boolean bigDecimalReduceAndCompare() {
+        BigDecimal total = amounts.stream()
+                .reduce(BigDecimal.ZERO, (left, right) -> left.add(right).setScale(2, RoundingMode.HALF_EVEN));
+        return total.equals(expectedAmount);
+    }
+
+    @Benchmark
+    public boolean moneyReduceAndCompare() {
+        Money total = monies.stream().reduce(Money.ZERO, Money::add);
+        return total.equals(expectedMoney);
+    }
+}
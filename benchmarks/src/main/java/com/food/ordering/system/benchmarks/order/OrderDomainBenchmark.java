@@ -0,0 +1,91 @@
+package com.food.ordering.system.benchmarks.order;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.ProductId;
+import com.food.ordering.system.domain.vo.RestaurantId;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.vo.StreetAddress;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderDomainBenchmark {
+
+    private static final int QUANTITY = 2;
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+    private final CustomerId customerId = new CustomerId(UUID.randomUUID());
+    private final StreetAddress deliveryAddress = new StreetAddress(UUID.randomUUID(), "street", "city", "1000AB");
+
+    private Restaurant restaurant;
+    private List<OrderItem> items;
+    private Money totalPrice;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        List<Product> products = IntStream.range(0, itemCount)
+                .mapToObj(i -> new Product(new ProductId(UUID.randomUUID()), "product-" + i,
+                        Money.ofCents(100L + i)))
+                .toList();
+        restaurant = Restaurant.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .products(products)
+                .active(true)
+                .build();
+        items = products.stream()
+                .map(product -> OrderItem.builder()
+                        .product(new Product(product.getId()))
+                        .quantity(QUANTITY)
+                        .price(product.getPrice())
+                        .subTotal(product.getPrice().multiply(QUANTITY))
+                        .build())
+                .toList();
+        totalPrice = items.stream().map(OrderItem::getSubTotal).reduce(Money.ZERO, Money::add);
+        // Confirms name and price on the shared item products, as order creation does before validation
+        orderDomainService.validateAndInitializeOrder(newOrder(), restaurant, orderCreatedEvent -> {
+        });
+        order = newOrder();
+    }
+
+    @Benchmark
+    public Order validateOrder() {
+        order.validateOrder();
+        return order;
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitializeOrder() {
+        return orderDomainService.validateAndInitializeOrder(newOrder(), restaurant, orderCreatedEvent -> {
+        });
+    }
+
+    private Order newOrder() {
+        return Order.builder()
+                .customerId(customerId)
+                .restaurantId(restaurant.getId())
+                .deliveryAddress(deliveryAddress)
+                .price(totalPrice)
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.food.ordering.system.benchmarks.order;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJdbcRepository;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Persists new orders through the cascading {@link OrderJpaRepository} save, which merges because the ids are
+ * assigned, and through {@link OrderJdbcRepository} batch inserts, on in-memory H2 in PostgreSQL mode with the
+ * order-service Hibernate batching settings. The statements and orders counters are reported next to the timings;
+ * statements per order is statements / orders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderPersistenceBenchmark {
+
+    public enum Path {
+        JPA_SAVE, JDBC_BATCH
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class StatementCounters {
+        public long statements;
+        public long orders;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            orders = 0;
+        }
+    }
+
+    private static final String H2_URL = "jdbc:h2:mem:order_persistence;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS \"order\"\\;SET SCHEMA \"order\"";
+
+    @Param({"JPA_SAVE", "JDBC_BATCH"})
+    private Path path;
+
+    // Orders per transaction
+    @Param({"1", "100"})
+    private int orderCount;
+
+    @Param({"3"})
+    private int itemCount;
+
+    private StatementCountingDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private TransactionTemplate transactionTemplate;
+    private OrderJpaRepository orderJpaRepository;
+    private OrderJdbcRepository orderJdbcRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource h2DataSource = new JdbcDataSource();
+        h2DataSource.setURL(H2_URL);
+        dataSource = new StatementCountingDataSource(h2DataSource);
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan(OrderEntity.class.getPackageName());
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true",
+                "hibernate.order_updates", "true"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        orderJpaRepository = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(
+                entityManagerFactory)).getRepository(OrderJpaRepository.class);
+
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOrderInsertBatchSize(500);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        orderJdbcRepository = new OrderJdbcRepository(jdbcTemplate, orderServiceConfigData);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearOrders() {
+        jdbcTemplate.execute("DELETE FROM order_items");
+        jdbcTemplate.execute("DELETE FROM order_address");
+        jdbcTemplate.execute("DELETE FROM orders");
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactoryBean.destroy();
+    }
+
+    @Benchmark
+    public void persistOrders(StatementCounters counters) {
+        List<OrderEntity> orderEntities = IntStream.range(0, orderCount).mapToObj(i -> newOrderEntity()).toList();
+        long executionsBefore = dataSource.getExecutions();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (path == Path.JPA_SAVE) {
+                orderJpaRepository.saveAll(orderEntities);
+            } else {
+                orderJdbcRepository.insertAll(orderEntities);
+            }
+        });
+        counters.statements += dataSource.getExecutions() - executionsBefore;
+        counters.orders += orderCount;
+    }
+
+    private OrderEntity newOrderEntity() {
+        OrderEntity orderEntity = OrderEntity.builder()
+                .id(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .trackingId(UUID.randomUUID())
+                .price(BigDecimal.valueOf(100L * itemCount, 2))
+                .orderStatus(OrderStatus.PENDING)
+                .failureMessages("")
+                .build();
+        orderEntity.setAddress(OrderAddressEntity.builder()
+                .id(UUID.randomUUID())
+                .order(orderEntity)
+                .street("street")
+                .postalCode("1000AB")
+                .city("city")
+                .build());
+        orderEntity.setItems(IntStream.rangeClosed(1, itemCount)
+                .mapToObj(itemId -> OrderItemEntity.builder()
+                        .id((long) itemId)
+                        .order(orderEntity)
+                        .productId(UUID.randomUUID())
+                        .price(BigDecimal.valueOf(100L, 2))
+                        .quantity(1)
+                        .subTotal(BigDecimal.valueOf(100L, 2))
+                        .build())
+                .toList());
+        return orderEntity;
+    }
+}
@@ -0,0 +1,136 @@
+package com.food.ordering.system.benchmarks.outbox;
+
+import com.food.ordering.system.outbox.OutboxScheduler;
+import com.food.ordering.system.outbox.config.OutboxConfigData;
+import com.food.ordering.system.outbox.notify.OutboxNotificationListener;
+import com.food.ordering.system.postgres.notification.PostgresNotificationListener;
+import com.food.ordering.system.postgres.notification.config.PostgresNotificationConfigData;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert-to-relay latency of a single outbox row on a throwaway embedded PostgreSQL. POLLING runs the relay on a
+ * fixed delay the way the @Scheduled safety net does, NOTIFY wakes it through the real
+ * {@link PostgresNotificationListener} and {@link OutboxNotificationListener} from a statement-level insert trigger
+ * like the order-service schema defines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutboxRelayBenchmark {
+
+    public enum RelayMode {
+        POLLING, NOTIFY
+    }
+
+    private static final String CHANNEL = "order_outbox";
+    private static final long RELAY_TIMEOUT_MS = 10_000;
+
+    @Param({"POLLING", "NOTIFY"})
+    private RelayMode relayMode;
+
+    @Param({"100"})
+    private long pollIntervalMs;
+
+    private EmbeddedPostgres postgres;
+    private Connection writer;
+    private PostgresNotificationListener notificationListener;
+    private OutboxNotificationListener outboxNotificationListener;
+    private ScheduledExecutorService pollingExecutor;
+    private final BlockingQueue<UUID> relayed = new LinkedBlockingQueue<>();
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        writer = dataSource.getConnection();
+        try (Statement statement = writer.createStatement()) {
+            statement.execute("CREATE TABLE outbox_benchmark " +
+                    "(id uuid PRIMARY KEY, processed boolean NOT NULL DEFAULT false)");
+            statement.execute("CREATE FUNCTION notify_outbox_insert() RETURNS trigger AS " +
+                    "'BEGIN PERFORM pg_notify(''" + CHANNEL + "'', TG_TABLE_NAME); RETURN null; END;' " +
+                    "LANGUAGE plpgsql");
+            statement.execute("CREATE TRIGGER notify_outbox_benchmark_insert AFTER INSERT ON outbox_benchmark " +
+                    "FOR EACH STATEMENT EXECUTE PROCEDURE notify_outbox_insert()");
+        }
+
+        OutboxScheduler relay = () -> relayOnce(dataSource);
+        if (relayMode == RelayMode.NOTIFY) {
+            OutboxConfigData outboxConfigData = new OutboxConfigData();
+            outboxConfigData.setNotifyChannel(CHANNEL);
+            PostgresNotificationConfigData postgresNotificationConfigData = new PostgresNotificationConfigData();
+            postgresNotificationConfigData.setReconnectBackoffMs(1000L);
+            outboxNotificationListener = new OutboxNotificationListener(outboxConfigData, List.of(relay));
+            notificationListener = new PostgresNotificationListener(dataSource, postgresNotificationConfigData,
+                    List.of(outboxNotificationListener));
+            notificationListener.start();
+        } else {
+            pollingExecutor = Executors.newSingleThreadScheduledExecutor();
+            pollingExecutor.scheduleWithFixedDelay(relay::processOutboxMessage, pollIntervalMs, pollIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, SQLException {
+        if (Objects.nonNull(notificationListener)) {
+            notificationListener.stop();
+            outboxNotificationListener.shutdown();
+        }
+        if (Objects.nonNull(pollingExecutor)) {
+            pollingExecutor.shutdownNow();
+        }
+        writer.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public UUID insertUntilRelayed() throws SQLException, InterruptedException {
+        UUID id = UUID.randomUUID();
+        try (PreparedStatement statement = writer.prepareStatement("INSERT INTO outbox_benchmark(id) VALUES (?)")) {
+            statement.setObject(1, id);
+            statement.executeUpdate();
+        }
+        UUID relayedId;
+        do {
+            relayedId = relayed.poll(RELAY_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (Objects.isNull(relayedId)) {
+                throw new IllegalStateException("Outbox row " + id + " was not relayed within " + RELAY_TIMEOUT_MS
+                        + " ms");
+            }
+        } while (!relayedId.equals(id));
+        return relayedId;
+    }
+
+    private void relayOnce(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "UPDATE outbox_benchmark SET processed = true WHERE NOT processed RETURNING id")) {
+            while (resultSet.next()) {
+                relayed.add(resultSet.getObject(1, UUID.class));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not relay outbox rows", e);
+        }
+    }
+}
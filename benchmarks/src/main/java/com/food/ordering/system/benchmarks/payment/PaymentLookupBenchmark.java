@@ -0,0 +1,134 @@
+package com.food.ordering.system.benchmarks.payment;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-message payment lookups (credit entry and credit history by customer id, payment by order id) against the
+ * payment-container init-schema.sql on a throwaway embedded PostgreSQL, preloaded with historyRows credit history
+ * rows and as many payments. Latency per lookup should stay flat as historyRows grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentLookupBenchmark {
+
+    // Copied from payment-container by the benchmarks build
+    private static final String PAYMENT_SCHEMA = "/payment/init-schema.sql";
+    private static final int HISTORY_PER_CUSTOMER = 10;
+    private static final int SAMPLE_SIZE = 10_000;
+
+    @Param({"1000000", "10000000"})
+    private long historyRows;
+
+    private EmbeddedPostgres postgres;
+    private Connection connection;
+    private PreparedStatement creditEntryByCustomerId;
+    private PreparedStatement creditHistoryByCustomerId;
+    private PreparedStatement paymentByOrderId;
+    private UUID[] customerIds;
+    private UUID[] orderIds;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        connection = postgres.getPostgresDatabase().getConnection();
+        try (InputStream schema = getClass().getResourceAsStream(PAYMENT_SCHEMA);
+             Statement statement = connection.createStatement()) {
+            statement.execute(new String(Objects.requireNonNull(schema, PAYMENT_SCHEMA + " not found").readAllBytes(),
+                    StandardCharsets.UTF_8));
+        }
+        load(historyRows / HISTORY_PER_CUSTOMER);
+
+        customerIds = sample("SELECT customer_id FROM payment.credit_entry ORDER BY random() LIMIT ?");
+        orderIds = sample("SELECT order_id FROM payment.payments ORDER BY random() LIMIT ?");
+        creditEntryByCustomerId = connection.prepareStatement(
+                "SELECT * FROM payment.credit_entry WHERE customer_id = ?");
+        creditHistoryByCustomerId = connection.prepareStatement(
+                "SELECT * FROM payment.credit_history WHERE customer_id = ?");
+        paymentByOrderId = connection.prepareStatement("SELECT * FROM payment.payments WHERE order_id = ?");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public int creditEntryByCustomerId() throws SQLException {
+        return lookup(creditEntryByCustomerId, customerIds);
+    }
+
+    @Benchmark
+    public int creditHistoryByCustomerId() throws SQLException {
+        return lookup(creditHistoryByCustomerId, customerIds);
+    }
+
+    @Benchmark
+    public int paymentByOrderId() throws SQLException {
+        return lookup(paymentByOrderId, orderIds);
+    }
+
+    private int lookup(PreparedStatement statement, UUID[] ids) throws SQLException {
+        statement.setObject(1, ids[next++ % ids.length]);
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    // Every history row has its payment, so payments grow with credit_history rather than with customers
+    private void load(long customers) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO payment.credit_entry(id, customer_id, total_credit_amount) " +
+                    "SELECT gen_random_uuid(), md5('customer' || c)::uuid, 1000.00 " +
+                    "FROM generate_series(1, " + customers + ") c");
+            statement.execute("INSERT INTO payment.credit_history(id, customer_id, amount, type) " +
+                    "SELECT gen_random_uuid(), md5('customer' || c)::uuid, 10.00, " +
+                    "(CASE WHEN h % 2 = 0 THEN 'CREDIT' ELSE 'DEBIT' END)::transaction_type " +
+                    "FROM generate_series(1, " + customers + ") c, generate_series(1, " + HISTORY_PER_CUSTOMER + ") h");
+            statement.execute("INSERT INTO payment.payments(id, customer_id, order_id, price, created_at, status) " +
+                    "SELECT gen_random_uuid(), md5('customer' || c)::uuid, md5('order' || c || '-' || h)::uuid, " +
+                    "10.00, now(), 'COMPLETED' " +
+                    "FROM generate_series(1, " + customers + ") c, generate_series(1, " + HISTORY_PER_CUSTOMER + ") h");
+            statement.execute("ANALYZE payment.credit_entry");
+            statement.execute("ANALYZE payment.credit_history");
+            statement.execute("ANALYZE payment.payments");
+        }
+    }
+
+    private UUID[] sample(String sql) throws SQLException {
+        List<UUID> ids = new ArrayList<>(SAMPLE_SIZE);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, SAMPLE_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+        }
+        return ids.toArray(UUID[]::new);
+    }
+}
@@ -0,0 +1,188 @@
+package com.food.ordering.system.benchmarks.payment;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.PaymentOrderStatus;
+import com.food.ordering.system.domain.vo.PaymentStatus;
+import com.food.ordering.system.payment.service.dataaccess.creditentry.entity.CreditEntryEntity;
+import com.food.ordering.system.payment.service.dataaccess.creditentry.repository.CreditEntryJpaRepository;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.entity.CreditLedgerEntity;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.repository.CreditLedgerJpaRepository;
+import com.food.ordering.system.payment.service.dataaccess.processedmessage.adapter.ProcessedMessageRepositoryImpl;
+import com.food.ordering.system.payment.service.dataaccess.processedmessage.repository.ProcessedMessageJpaRepository;
+import com.food.ordering.system.payment.service.domain.ProcessedMessageHelper;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import com.food.ordering.system.payment.service.domain.vo.PaymentId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Replays a full partition of already processed payment requests, one transaction per request as the listener runs
+ * them, on in-memory H2 in PostgreSQL mode. LOAD_CREDIT is the credit entry and ledger lookup every replay paid before
+ * deduplication, PROCESSED_TABLE is the conflicting insert into processed_messages and RECENT_CACHE is the in-memory
+ * lookup of the cached outcome that skips the transaction altogether.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentReplayBenchmark {
+
+    public enum Path {
+        LOAD_CREDIT, PROCESSED_TABLE, RECENT_CACHE
+    }
+
+    private static final String H2_URL = "jdbc:h2:mem:payment_replay;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS payment\\;SET SCHEMA payment";
+
+    @Param({"LOAD_CREDIT", "PROCESSED_TABLE", "RECENT_CACHE"})
+    private Path path;
+
+    // Requests in the replayed partition
+    @Param({"10000"})
+    private int partitionSize;
+
+    @Param({"1000"})
+    private int customerCount;
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private TransactionTemplate transactionTemplate;
+    private CreditEntryJpaRepository creditEntryJpaRepository;
+    private CreditLedgerJpaRepository creditLedgerJpaRepository;
+    private ProcessedMessageHelper processedMessageHelper;
+    private List<PaymentRequest> partition;
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(H2_URL);
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan("com.food.ordering.system.payment.service.dataaccess");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        creditEntryJpaRepository = repositoryFactory.getRepository(CreditEntryJpaRepository.class);
+        creditLedgerJpaRepository = repositoryFactory.getRepository(CreditLedgerJpaRepository.class);
+
+        PaymentServiceConfigData paymentServiceConfigData = new PaymentServiceConfigData();
+        paymentServiceConfigData.setProcessedMessageCacheMaxSize(partitionSize);
+        paymentServiceConfigData.setProcessedMessageCacheExpireAfterWriteMs(TimeUnit.HOURS.toMillis(1));
+        ProcessedMessageJpaRepository processedMessageJpaRepository =
+                repositoryFactory.getRepository(ProcessedMessageJpaRepository.class);
+        processedMessageHelper = new ProcessedMessageHelper(
+                new ProcessedMessageRepositoryImpl(processedMessageJpaRepository),
+                paymentServiceConfigData,
+                new SimpleMeterRegistry());
+
+        List<UUID> customerIds = IntStream.range(0, customerCount).mapToObj(i -> UUID.randomUUID()).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            creditEntryJpaRepository.saveAll(customerIds.stream()
+                    .map(customerId -> CreditEntryEntity.builder()
+                            .id(UUID.randomUUID())
+                            .customerId(customerId)
+                            .totalCreditAmount(BigDecimal.valueOf(100_000L, 2))
+                            .build())
+                    .toList());
+            creditLedgerJpaRepository.saveAll(customerIds.stream()
+                    .map(customerId -> CreditLedgerEntity.builder()
+                            .customerId(customerId)
+                            .totalCreditAmount(BigDecimal.valueOf(100_000L, 2))
+                            .totalDebitAmount(BigDecimal.ZERO)
+                            .build())
+                    .toList());
+        });
+
+        Random random = new Random(42);
+        partition = IntStream.range(0, partitionSize)
+                .mapToObj(i -> PaymentRequest.builder()
+                        .id(UUID.randomUUID().toString())
+                        .sagaId(UUID.randomUUID().toString())
+                        .orderId(UUID.randomUUID().toString())
+                        .customerId(customerIds.get(random.nextInt(customerCount)).toString())
+                        .price(BigDecimal.valueOf(5_000L, 2))
+                        .createdAt(Instant.now())
+                        .paymentOrderStatus(PaymentOrderStatus.PENDING)
+                        .build())
+                .toList();
+        // The partition was processed once already, every request below is a redelivery
+        partition.forEach(paymentRequest -> {
+            transactionTemplate.executeWithoutResult(status -> processedMessageHelper.markProcessed(paymentRequest));
+            processedMessageHelper.rememberProcessed(paymentRequest, completedEvent(paymentRequest));
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactoryBean.destroy();
+    }
+
+    @Benchmark
+    public int replayPartition() {
+        int skipped = 0;
+        for (PaymentRequest paymentRequest : partition) {
+            if (replay(paymentRequest)) {
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+
+    private boolean replay(PaymentRequest paymentRequest) {
+        return switch (path) {
+            case LOAD_CREDIT -> Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                UUID customerId = UUID.fromString(paymentRequest.getCustomerId());
+                return creditEntryJpaRepository.findByCustomerId(customerId).isPresent()
+                        && creditLedgerJpaRepository.findById(customerId).isPresent();
+            }));
+            case PROCESSED_TABLE -> Boolean.FALSE.equals(transactionTemplate.execute(status ->
+                    processedMessageHelper.markProcessed(paymentRequest)));
+            case RECENT_CACHE -> processedMessageHelper.getRecentlyProcessed(paymentRequest).isPresent();
+        };
+    }
+
+    private PaymentCompletedEvent completedEvent(PaymentRequest paymentRequest) {
+        Payment payment = Payment.builder()
+                .paymentId(new PaymentId(UUID.randomUUID()))
+                .orderId(new OrderId(UUID.fromString(paymentRequest.getOrderId())))
+                .customerId(new CustomerId(UUID.fromString(paymentRequest.getCustomerId())))
+                .price(new Money(paymentRequest.getPrice()))
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .build();
+        return new PaymentCompletedEvent(payment, ZonedDateTime.now(), paymentCompletedEvent -> {
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.food.ordering.system.benchmarks.restaurant;
+
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.domain.vo.ProductId;
+import com.food.ordering.system.domain.vo.RestaurantId;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderDetail;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
+import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestaurantDomainBenchmark {
+
+    private static final int QUANTITY = 2;
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private Restaurant restaurant;
+
+    @Setup
+    public void setUp() {
+        List<Product> products = IntStream.range(0, itemCount)
+                .mapToObj(i -> Product.builder()
+                        .productId(new ProductId(UUID.randomUUID()))
+                        .name("product-" + i)
+                        .price(Money.ofCents(100L + i))
+                        .quantity(QUANTITY)
+                        .available(true)
+                        .build())
+                .toList();
+        Money totalAmount = products.stream()
+                .map(product -> product.getPrice().multiply(QUANTITY))
+                .reduce(Money.ZERO, Money::add);
+        restaurant = Restaurant.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .active(true)
+                .orderDetail(OrderDetail.builder()
+                        .orderId(new OrderId(UUID.randomUUID()))
+                        .orderStatus(OrderStatus.PAID)
+                        .totalAmount(totalAmount)
+                        .products(products)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public List<String> validateOrder() {
+        List<String> failureMessages = new ArrayList<>();
+        restaurant.validateOrder(failureMessages);
+        return failureMessages;
+    }
+}
@@ -0,0 +1,109 @@
+package com.food.ordering.system.benchmarks.threads;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Request-style load against the two thread models the containers can run with: a Tomcat-sized platform pool and one
+ * virtual thread per request. Each request blocks for a JDBC-like round trip, either freely, inside a synchronized
+ * block (pins the carrier) or under a ReentrantLock (does not). Throughput gives requests/s; SampleTime gives the
+ * p99 per request. 400 driver threads keep twice as many requests in flight as the platform pool has threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(400)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+    public enum ThreadModel {
+        PLATFORM, VIRTUAL
+    }
+
+    public enum Blocking {
+        FREE, SYNCHRONIZED, LOCK
+    }
+
+    // Tomcat's default server.tomcat.threads.max
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final int LOCK_STRIPES = 1024;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ThreadModel threadModel;
+
+    @Param({"FREE", "SYNCHRONIZED", "LOCK"})
+    private Blocking blocking;
+
+    @Param({"5"})
+    private long ioMillis;
+
+    private ExecutorService executor;
+    private Object[] monitors;
+    private ReentrantLock[] locks;
+
+    @Setup
+    public void setUp() {
+        executor = threadModel == ThreadModel.PLATFORM
+                ? Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        monitors = new Object[LOCK_STRIPES];
+        locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            monitors[i] = new Object();
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @State(Scope.Thread)
+    public static class Request {
+        private static int nextStripe;
+        private int stripe;
+
+        @Setup
+        public void setUp() {
+            synchronized (Request.class) {
+                stripe = nextStripe++ % LOCK_STRIPES;
+            }
+        }
+    }
+
+    @Benchmark
+    public void request(Request request) throws ExecutionException, InterruptedException {
+        executor.submit(() -> {
+            blockingIo(request.stripe);
+            return null;
+        }).get();
+    }
+
+    // Each request owns its stripe, so any slowdown comes from pinned carriers and not from lock contention
+    private void blockingIo(int stripe) throws InterruptedException {
+        switch (blocking) {
+            case FREE -> Thread.sleep(ioMillis);
+            case SYNCHRONIZED -> {
+                synchronized (monitors[stripe]) {
+                    Thread.sleep(ioMillis);
+                }
+            }
+            case LOCK -> {
+                locks[stripe].lock();
+                try {
+                    Thread.sleep(ioMillis);
+                } finally {
+                    locks[stripe].unlock();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.vo.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.vo.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.vo.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Lives in the domain package because PaymentDomainServiceImpl is package-private
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentDomainBenchmark {
+
+    private static final Money PRICE = Money.ofCents(100L);
+    private static final long INITIAL_CREDIT_CENTS = 1_000_000_000_000L;
+
+    @Param({"10", "1000", "100000"})
+    private int creditHistoryLength;
+
+    private final PaymentDomainService paymentDomainService = new PaymentDomainServiceImpl();
+    private final CustomerId customerId = new CustomerId(UUID.randomUUID());
+
+    private List<CreditHistory> creditHistories;
+    private CreditEntry creditEntry;
+    private CreditLedger creditLedger;
+
+    @Setup
+    public void setUp() {
+        creditHistories = new ArrayList<>();
+        creditHistories.add(creditHistory(Money.ofCents(INITIAL_CREDIT_CENTS), TransactionType.CREDIT));
+        IntStream.range(1, creditHistoryLength).forEach(i -> creditHistories.add(
+                creditHistory(PRICE, i % 2 == 0 ? TransactionType.CREDIT : TransactionType.DEBIT)));
+        creditLedger = rebuildCreditLedger();
+        creditEntry = CreditEntry.builder()
+                .creditEntryId(new CreditEntryId(UUID.randomUUID()))
+                .customerId(customerId)
+                .totalCreditAmount(creditLedger.getRecordedCreditAmount())
+                .build();
+    }
+
+    @Benchmark
+    public PaymentEvent validateAndInitializePayment() {
+        return paymentDomainService.validateAndInitializePayment(newPayment(), creditEntry, creditLedger,
+                new ArrayList<>(), new ArrayList<>(), paymentEvent -> {
+                }, paymentEvent -> {
+                });
+    }
+
+    @Benchmark
+    public PaymentEvent validateAndCancelPayment() {
+        return paymentDomainService.validateAndCancelPayment(newPayment(), creditEntry, creditLedger,
+                new ArrayList<>(), new ArrayList<>(), paymentEvent -> {
+                }, paymentEvent -> {
+                });
+    }
+
+    // Cold path taken when a customer has no ledger snapshot yet
+    @Benchmark
+    public CreditLedger rebuildCreditLedger() {
+        CreditLedger rebuiltCreditLedger = CreditLedger.empty(customerId);
+        creditHistories.forEach(rebuiltCreditLedger::addCreditHistory);
+        return rebuiltCreditLedger;
+    }
+
+    private Payment newPayment() {
+        return Payment.builder()
+                .orderId(new OrderId(UUID.randomUUID()))
+                .customerId(customerId)
+                .price(PRICE)
+                .build();
+    }
+
+    private CreditHistory creditHistory(Money amount, TransactionType transactionType) {
+        return CreditHistory.builder()
+                .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+                .customerId(customerId)
+                .amount(amount)
+                .transactionType(transactionType)
+                .build();
+    }
+}
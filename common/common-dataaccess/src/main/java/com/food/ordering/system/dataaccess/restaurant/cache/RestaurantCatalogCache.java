@@ -0,0 +1,93 @@
+package com.food.ordering.system.dataaccess.restaurant.cache;
+
+import com.food.ordering.system.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Per-restaurant cache of the catalog projection. Each entry holds every product row of one restaurant, so lookups
+ * for any subset of products are served without a database round-trip. Entries are evicted by
+ * {@link com.food.ordering.system.dataaccess.restaurant.cache.notify.RestaurantCatalogNotificationListener} when the
+ * projection changes.
+ */
+@Slf4j
+@Component
+public class RestaurantCatalogCache {
+
+    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final Cache<UUID, List<RestaurantEntity>> cache;
+
+    public RestaurantCatalogCache(RestaurantJpaRepository restaurantJpaRepository,
+                                  RestaurantCacheConfigData restaurantCacheConfigData,
+                                  MeterRegistry meterRegistry) {
+        this.restaurantJpaRepository = restaurantJpaRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(restaurantCacheConfigData.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(restaurantCacheConfigData.getExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "restaurant.catalog");
+    }
+
+    public Optional<List<RestaurantEntity>> findByRestaurantIdAndProductIdIn(UUID restaurantId,
+                                                                             List<UUID> productIds) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        List<RestaurantEntity> catalog = cache.get(restaurantId, id -> {
+            loaded.set(true);
+            return load(id);
+        });
+        if (!loaded.get() && !containsAll(catalog, productIds)) {
+            // Covers products added while a notification was missed, a fresh load already reflects the database
+            log.debug("Catalog entry of restaurant {} misses requested products, reloading", restaurantId);
+            catalog = load(restaurantId);
+            cache.put(restaurantId, catalog);
+        }
+        Set<UUID> requested = Set.copyOf(productIds);
+        return Optional.of(catalog.stream()
+                .filter(restaurantEntity -> requested.contains(restaurantEntity.getProductId()))
+                .toList());
+    }
+
+    // Loads every restaurant not cached yet with one query, so the per-restaurant lookups that follow are cache hits
+    public void prefetch(Collection<UUID> restaurantIds) {
+        cache.getAll(restaurantIds, this::loadAll);
+    }
+
+    public void invalidate(UUID restaurantId) {
+        cache.invalidate(restaurantId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private List<RestaurantEntity> load(UUID restaurantId) {
+        return List.copyOf(restaurantJpaRepository.findByRestaurantId(restaurantId));
+    }
+
+    private Map<UUID, List<RestaurantEntity>> loadAll(Set<? extends UUID> restaurantIds) {
+        return restaurantJpaRepository.findByRestaurantIdIn(Set.copyOf(restaurantIds)).stream()
+                .collect(Collectors.groupingBy(RestaurantEntity::getRestaurantId,
+                        Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+    }
+
+    private boolean containsAll(List<RestaurantEntity> catalog, List<UUID> productIds) {
+        return catalog.stream().map(RestaurantEntity::getProductId).toList().containsAll(productIds);
+    }
+}
@@ -0,0 +1,44 @@
+package com.food.ordering.system.dataaccess.restaurant.cache.notify;
+
+import com.food.ordering.system.dataaccess.restaurant.cache.RestaurantCatalogCache;
+import com.food.ordering.system.dataaccess.restaurant.config.RestaurantCacheConfigData;
+import com.food.ordering.system.postgres.notification.PostgresNotificationHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Evicts the catalog entry of every restaurant the projection triggers report as changed. An empty payload (truncate)
+ * and every reconnect evict the whole cache, since notifications may have been missed in between.
+ */
+@Component
+public class RestaurantCatalogNotificationListener implements PostgresNotificationHandler {
+
+    private final RestaurantCacheConfigData restaurantCacheConfigData;
+    private final RestaurantCatalogCache restaurantCatalogCache;
+
+    public RestaurantCatalogNotificationListener(RestaurantCacheConfigData restaurantCacheConfigData,
+                                                 RestaurantCatalogCache restaurantCatalogCache) {
+        this.restaurantCacheConfigData = restaurantCacheConfigData;
+        this.restaurantCatalogCache = restaurantCatalogCache;
+    }
+
+    @Override
+    public String channel() {
+        return restaurantCacheConfigData.getNotifyChannel();
+    }
+
+    @Override
+    public void onNotification(String restaurantId) {
+        if (restaurantId.isEmpty()) {
+            restaurantCatalogCache.invalidateAll();
+        } else {
+            restaurantCatalogCache.invalidate(UUID.fromString(restaurantId));
+        }
+    }
+
+    @Override
+    public void onListening() {
+        restaurantCatalogCache.invalidateAll();
+    }
+}
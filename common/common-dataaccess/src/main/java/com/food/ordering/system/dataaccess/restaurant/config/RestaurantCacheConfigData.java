@@ -0,0 +1,14 @@
+package com.food.ordering.system.dataaccess.restaurant.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "restaurant-cache")
+public class RestaurantCacheConfigData {
+    private Long maximumSize = 10000L;
+    private Long expireAfterWriteMs = 60000L;
+    private String notifyChannel = "restaurant_catalog";
+}
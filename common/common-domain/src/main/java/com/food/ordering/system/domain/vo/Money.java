@@ -4,41 +4,59 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
+// Amounts are held as a long number of cents; BigDecimal is only used at the JPA and Avro boundaries.
+// Sub-cent amounts are rounded HALF_EVEN on construction, the mode arithmetic results were always rounded with.
+// Construction and arithmetic throw ArithmeticException on overflow instead of wrapping.
 public class Money {
-    private final BigDecimal amount;
+    private static final int SCALE = 2;
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    private final long cents;
+
+    public static final Money ZERO = new Money(0L);
 
     public Money(BigDecimal amount) {
-        this.amount = amount;
+        this(Objects.requireNonNull(amount, "Money amount must not be null")
+                .setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+    }
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
     }
 
     public boolean isGreaterThanZero() {
-        return Objects.nonNull(this.amount) && this.amount.compareTo(BigDecimal.ZERO) > 0;
+        return this.cents > 0;
     }
 
     public boolean isGreaterEqualThanZero() {
-        return Objects.nonNull(this.amount) && this.amount.compareTo(BigDecimal.ZERO) >= 0;
+        return this.cents >= 0;
     }
 
     public boolean isGreaterThan(Money money) {
-        return Objects.nonNull(this.amount) && this.amount.compareTo(money.getAmount()) > 0;
+        return this.cents > money.cents;
     }
 
     public Money add(Money money) {
-        return new Money(setScale(this.amount.add(money.getAmount())));
+        return new Money(Math.addExact(this.cents, money.cents));
     }
 
     public Money subtract(Money money) {
-        return new Money(setScale(this.amount.subtract(money.getAmount())));
+        return new Money(Math.subtractExact(this.cents, money.cents));
     }
 
     public Money multiply(int multiplier) {
-        return new Money(setScale(this.amount.multiply(new BigDecimal(multiplier))));
+        return new Money(Math.multiplyExact(this.cents, multiplier));
+    }
+
+    public long getCents() {
+        return cents;
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(cents, SCALE);
     }
 
     @Override
@@ -46,15 +64,11 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount);
+        return cents == money.cents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(amount);
-    }
-
-    private BigDecimal setScale(BigDecimal input) {
-        return input.setScale(2, RoundingMode.HALF_EVEN);
+        return Long.hashCode(cents);
     }
 }
@@ -0,0 +1,49 @@
+package com.food.ordering.system.domain.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest {
+
+    @Test
+    public void testSubCentAmountsRoundHalfEven() {
+        assertEquals(1000L, new Money(new BigDecimal("10.005")).getCents());
+        assertEquals(1002L, new Money(new BigDecimal("10.015")).getCents());
+        assertEquals(-1000L, new Money(new BigDecimal("-10.005")).getCents());
+        assertEquals(new BigDecimal("10.00"), new Money(new BigDecimal("10")).getAmount());
+    }
+
+    @Test
+    public void testEqualityIgnoresScale() {
+        assertEquals(new Money(new BigDecimal("0")), Money.ZERO);
+        assertEquals(new Money(new BigDecimal("50.5")), new Money(new BigDecimal("50.50")));
+        assertEquals(new Money(new BigDecimal("50.5")).hashCode(), new Money(new BigDecimal("50.50")).hashCode());
+        assertNotEquals(new Money(new BigDecimal("50.50")), new Money(new BigDecimal("50.51")));
+    }
+
+    @Test
+    public void testArithmetic() {
+        Money price = new Money(new BigDecimal("50.25"));
+        assertEquals(new Money(new BigDecimal("100.50")), price.add(price));
+        assertEquals(Money.ZERO, price.subtract(price));
+        assertEquals(new Money(new BigDecimal("150.75")), price.multiply(3));
+    }
+
+    @Test
+    public void testOverflowThrows() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> max.add(Money.ofCents(1L)));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).subtract(Money.ofCents(1L)));
+        assertThrows(ArithmeticException.class, () -> max.multiply(2));
+        assertThrows(ArithmeticException.class, () -> new Money(new BigDecimal("92233720368547758.08")));
+    }
+
+    @Test
+    public void testNullAmountIsRejected() {
+        NullPointerException exception = assertThrows(NullPointerException.class, () -> new Money(null));
+        assertEquals("Money amount must not be null", exception.getMessage());
+    }
+}
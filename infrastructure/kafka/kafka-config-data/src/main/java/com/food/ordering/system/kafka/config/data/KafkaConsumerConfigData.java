@@ -24,4 +24,6 @@ public class KafkaConsumerConfigData {
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private KafkaConsumerProcessingMode processingMode = KafkaConsumerProcessingMode.SEQUENTIAL;
+    private Integer processingThreads = 0;
 }
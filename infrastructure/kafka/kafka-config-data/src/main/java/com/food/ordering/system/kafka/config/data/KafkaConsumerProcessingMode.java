@@ -0,0 +1,5 @@
+package com.food.ordering.system.kafka.config.data;
+
+public enum KafkaConsumerProcessingMode {
+    SEQUENTIAL, KEY_PARALLEL
+}
@@ -0,0 +1,159 @@
+package com.food.ordering.system.kafka.consumer.batch;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerProcessingMode;
+import com.food.ordering.system.kafka.consumer.tracing.KafkaConsumerTracing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Runs the handler of a batch listener over every message of a poll. In {@link KafkaConsumerProcessingMode#KEY_PARALLEL}
+ * mode messages are grouped by partition and key, groups run concurrently and messages within a group keep their
+ * offset order. When a message fails, a {@link BatchListenerFailedException} is raised for the first failed index so
+ * the container error handler commits only the completed prefix of the batch and redelivers the rest. Messages after
+ * that index that did complete are remembered by partition and offset and skipped on redelivery, the saga handlers
+ * downstream are not idempotent. Each message is handled in a consumer span that continues the trace of its producer.
+ */
+@Slf4j
+@Component
+public class KafkaBatchProcessor implements DisposableBean {
+
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final KafkaConsumerTracing kafkaConsumerTracing;
+    private final ExecutorService executorService;
+    private final Timer messageTimer;
+    private final Counter skippedMessageCounter;
+    // Completed offsets above the committed position, per operation and partition
+    private final Map<String, NavigableSet<Long>> completedOffsets = new ConcurrentHashMap<>();
+
+    public KafkaBatchProcessor(KafkaConsumerConfigData kafkaConsumerConfigData,
+                               KafkaConsumerTracing kafkaConsumerTracing,
+                               MeterRegistry meterRegistry) {
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.kafkaConsumerTracing = kafkaConsumerTracing;
+        this.messageTimer = Timer.builder("kafka.consumer.message")
+                .description("Processing time of a single message handled by KafkaBatchProcessor")
+                .register(meterRegistry);
+        this.skippedMessageCounter = Counter.builder("kafka.consumer.message.skipped")
+                .description("Redelivered messages skipped because they completed before the batch failed")
+                .register(meterRegistry);
+        if (kafkaConsumerConfigData.getProcessingMode() == KafkaConsumerProcessingMode.KEY_PARALLEL) {
+            this.executorService = kafkaConsumerConfigData.getProcessingThreads() > 0
+                    ? Executors.newFixedThreadPool(kafkaConsumerConfigData.getProcessingThreads())
+                    : Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            this.executorService = null;
+        }
+    }
+
+    public <T> void process(String operation, List<T> messages, List<String> keys, List<Integer> partitions,
+                            List<Long> offsets, List<Map<String, Object>> headers, Consumer<T> handler) {
+        Consumer<Integer> indexHandler = index -> kafkaConsumerTracing.inSpan(operation, keys.get(index),
+                headers.get(index), () -> messageTimer.record(() -> handler.accept(messages.get(index))));
+
+        if (kafkaConsumerConfigData.getProcessingMode() == KafkaConsumerProcessingMode.SEQUENTIAL) {
+            for (int i = 0; i < messages.size(); i++) {
+                try {
+                    indexHandler.accept(i);
+                } catch (RuntimeException e) {
+                    throw new BatchListenerFailedException(e.getMessage(), e, i);
+                }
+            }
+            return;
+        }
+
+        forgetCommittedOffsets(operation, partitions, offsets);
+        Map<String, List<Integer>> indexesByKey = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (isCompleted(operation, partitions.get(i), offsets.get(i))) {
+                log.debug("Skipping message at partition {} and offset {}, it completed before its batch failed",
+                        partitions.get(i), offsets.get(i));
+                skippedMessageCounter.increment();
+                continue;
+            }
+            indexesByKey.computeIfAbsent(partitions.get(i) + "-" + keys.get(i), key -> new ArrayList<>()).add(i);
+        }
+
+        ConcurrentSkipListMap<Integer, RuntimeException> failures = new ConcurrentSkipListMap<>();
+        Set<Integer> completed = ConcurrentHashMap.newKeySet();
+        CompletableFuture.allOf(indexesByKey.values().stream()
+                .map(indexes -> CompletableFuture.runAsync(
+                        () -> processInOrder(indexes, indexHandler, completed, failures), executorService))
+                .toArray(CompletableFuture[]::new)).join();
+
+        if (!failures.isEmpty()) {
+            Map.Entry<Integer, RuntimeException> firstFailure = failures.firstEntry();
+            // Everything before the first failure is committed, completed messages after it will be redelivered
+            List<Integer> redeliveredCompleted = completed.stream()
+                    .filter(index -> index > firstFailure.getKey())
+                    .toList();
+            redeliveredCompleted.forEach(index -> completedOffsets
+                    .computeIfAbsent(operation + "-" + partitions.get(index), key -> new ConcurrentSkipListSet<>())
+                    .add(offsets.get(index)));
+            log.error("{} of {} messages failed, committing up to index {} and skipping {} completed messages on " +
+                    "redelivery", failures.size(), messages.size(), firstFailure.getKey(), redeliveredCompleted.size());
+            throw new BatchListenerFailedException(firstFailure.getValue().getMessage(), firstFailure.getValue(),
+                    firstFailure.getKey());
+        }
+    }
+
+    private void processInOrder(List<Integer> indexes, Consumer<Integer> indexHandler, Set<Integer> completed,
+                                Map<Integer, RuntimeException> failures) {
+        for (Integer index : indexes) {
+            try {
+                indexHandler.accept(index);
+                completed.add(index);
+            } catch (RuntimeException e) {
+                // Later messages of the same key must not overtake the failed one
+                failures.put(index, e);
+                return;
+            }
+        }
+    }
+
+    private boolean isCompleted(String operation, Integer partition, Long offset) {
+        NavigableSet<Long> partitionOffsets = completedOffsets.get(operation + "-" + partition);
+        return Objects.nonNull(partitionOffsets) && partitionOffsets.contains(offset);
+    }
+
+    // A batch starts at the committed position of each of its partitions, offsets below it are never redelivered
+    private void forgetCommittedOffsets(String operation, List<Integer> partitions, List<Long> offsets) {
+        Map<Integer, Long> firstOffsets = new LinkedHashMap<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            firstOffsets.merge(partitions.get(i), offsets.get(i), Math::min);
+        }
+        firstOffsets.forEach((partition, firstOffset) -> {
+            NavigableSet<Long> partitionOffsets = completedOffsets.get(operation + "-" + partition);
+            if (Objects.nonNull(partitionOffsets)) {
+                partitionOffsets.headSet(firstOffset).clear();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (Objects.nonNull(executorService)) {
+            executorService.shutdown();
+        }
+    }
+}
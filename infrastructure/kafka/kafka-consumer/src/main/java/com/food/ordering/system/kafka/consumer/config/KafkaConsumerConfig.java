@@ -2,11 +2,15 @@ package com.food.ordering.system.kafka.consumer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.metrics.BatchSizeMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -22,6 +26,8 @@ import java.util.Map;
 public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecordBase> {
     private final KafkaConfigData kafkaConfigData;
     private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public Map<String, Object> consumerConfigs() {
@@ -87,9 +93,20 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
         // Set whether the listener container should start automatically
         factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
 
+        // Record how many records each poll hands to the batch listeners
+        factory.setBatchInterceptor(new BatchSizeMetricsInterceptor<>(meterRegistry));
+
         // Set the maximum time to block in the poll method
         factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
 
+        // Follow spring.threads.virtual.enabled like the auto-configured factory would, so Tomcat and the
+        // consumer threads switch thread model together
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerTaskExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
+
         return factory;
     }
 }
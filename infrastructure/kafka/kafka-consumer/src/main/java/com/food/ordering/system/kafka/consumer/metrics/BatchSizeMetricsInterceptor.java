@@ -0,0 +1,30 @@
+package com.food.ordering.system.kafka.consumer.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+/**
+ * Records the number of records each poll hands to a batch listener, per consumer group. Batch processing time is
+ * already recorded by the container as spring.kafka.listener.
+ */
+public class BatchSizeMetricsInterceptor<K, V> implements BatchInterceptor<K, V> {
+
+    private final MeterRegistry meterRegistry;
+
+    public BatchSizeMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        DistributionSummary.builder("kafka.consumer.batch.size")
+                .baseUnit("records")
+                .tag("group", consumer.groupMetadata().groupId())
+                .register(meterRegistry)
+                .record(records.count());
+        return records;
+    }
+}
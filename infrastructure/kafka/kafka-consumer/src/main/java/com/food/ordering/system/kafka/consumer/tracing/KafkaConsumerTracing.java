@@ -0,0 +1,75 @@
+package com.food.ordering.system.kafka.consumer.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Continues the trace of consumed messages from the trace context headers written by the observed KafkaTemplate, so
+ * the hops of an order line up in one trace. Spans are tagged with the message key, which is the order id (the saga
+ * id for outbox messages), so every hop of an order can be found even where a hop starts a new trace.
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaConsumerTracing {
+
+    private static final String MESSAGE_KEY_TAG = "messaging.kafka.message.key";
+    private static final String BATCH_SIZE_TAG = "messaging.batch.message_count";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public void inSpan(String operation, String key, Map<String, Object> headers, Runnable handler) {
+        Span span = startSpan(operation, key, headers);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            handler.run();
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    // The batch runs in one transaction, so each message gets a span in its own trace that covers the whole batch
+    public void inBatchSpans(String operation, List<String> keys, List<Map<String, Object>> headers,
+                             Runnable batchHandler) {
+        List<Span> spans = IntStream.range(0, keys.size())
+                .mapToObj(index -> startSpan(operation, keys.get(index), headers.get(index))
+                        .tag(BATCH_SIZE_TAG, String.valueOf(keys.size())))
+                .toList();
+        try {
+            batchHandler.run();
+        } catch (RuntimeException e) {
+            spans.forEach(span -> span.error(e));
+            throw e;
+        } finally {
+            spans.forEach(Span::end);
+        }
+    }
+
+    private Span startSpan(String operation, String key, Map<String, Object> headers) {
+        return propagator.extract(headers, KafkaConsumerTracing::headerValue)
+                .name(operation)
+                .kind(Span.Kind.CONSUMER)
+                .tag(MESSAGE_KEY_TAG, key)
+                .start();
+    }
+
+    // Unmapped record headers arrive as raw bytes
+    private static String headerValue(Map<String, Object> headers, String name) {
+        Object value = headers.get(name);
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return Objects.nonNull(value) ? value.toString() : null;
+    }
+}
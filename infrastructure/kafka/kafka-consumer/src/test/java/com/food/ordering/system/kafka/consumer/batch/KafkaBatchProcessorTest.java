@@ -0,0 +1,128 @@
+package com.food.ordering.system.kafka.consumer.batch;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerProcessingMode;
+import com.food.ordering.system.kafka.consumer.tracing.KafkaConsumerTracing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class KafkaBatchProcessorTest {
+
+    private static final String OPERATION = "test process";
+
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+    private KafkaBatchProcessor kafkaBatchProcessor;
+
+    @AfterEach
+    public void destroy() {
+        kafkaBatchProcessor.destroy();
+    }
+
+    @Test
+    public void testKeyParallelKeepsOffsetOrderPerKey() {
+        kafkaBatchProcessor = kafkaBatchProcessor(KafkaConsumerProcessingMode.KEY_PARALLEL);
+        List<String> messages = List.of("a0", "b0", "a1", "b1", "a2", "b2");
+
+        process(messages, List.of("a", "b", "a", "b", "a", "b"), 0L, handled::add);
+
+        assertEquals(Set.copyOf(messages), Set.copyOf(handled));
+        assertEquals(List.of("a0", "a1", "a2"), handled.stream().filter(message -> message.startsWith("a")).toList());
+        assertEquals(List.of("b0", "b1", "b2"), handled.stream().filter(message -> message.startsWith("b")).toList());
+    }
+
+    @Test
+    public void testKeyParallelFailsAtFirstFailedIndexAndStopsItsKey() {
+        kafkaBatchProcessor = kafkaBatchProcessor(KafkaConsumerProcessingMode.KEY_PARALLEL);
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                process(List.of("a0", "b0", "a1", "b1"), List.of("a", "b", "a", "b"), 0L, failOn("b0")));
+
+        assertEquals(1, exception.getIndex());
+        assertTrue(handled.containsAll(List.of("a0", "a1")));
+        assertFalse(handled.contains("b1"), "a later message of the failed key must not overtake it");
+    }
+
+    @Test
+    public void testKeyParallelSkipsCompletedMessagesOnRedelivery() {
+        kafkaBatchProcessor = kafkaBatchProcessor(KafkaConsumerProcessingMode.KEY_PARALLEL);
+        assertThrows(BatchListenerFailedException.class, () ->
+                process(List.of("a0", "b0", "a1", "b1"), List.of("a", "b", "a", "b"), 0L, failOn("b0")));
+        handled.clear();
+
+        // The error handler committed offset 0 and redelivers from the failed offset 1
+        process(List.of("b0", "a1", "b1"), List.of("b", "a", "b"), 1L, handled::add);
+
+        assertEquals(List.of("b0", "b1"), handled);
+    }
+
+    @Test
+    public void testKeyParallelForgetsCompletedOffsetsOnceCommitted() {
+        kafkaBatchProcessor = kafkaBatchProcessor(KafkaConsumerProcessingMode.KEY_PARALLEL);
+        assertThrows(BatchListenerFailedException.class, () ->
+                process(List.of("a0", "b0", "a1"), List.of("a", "b", "a"), 0L, failOn("b0")));
+        process(List.of("b0", "a1"), List.of("b", "a"), 1L, message -> { });
+        handled.clear();
+
+        // A batch starting past the remembered offset means it was committed, a reused offset is processed again
+        process(List.of("x3"), List.of("x"), 3L, handled::add);
+        process(List.of("a1"), List.of("a"), 2L, handled::add);
+
+        assertEquals(List.of("x3", "a1"), handled);
+    }
+
+    @Test
+    public void testSequentialFailsAtFailedIndexWithoutProcessingTheRest() {
+        kafkaBatchProcessor = kafkaBatchProcessor(KafkaConsumerProcessingMode.SEQUENTIAL);
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () ->
+                process(List.of("a0", "b0", "a1"), List.of("a", "b", "a"), 0L, failOn("b0")));
+
+        assertEquals(1, exception.getIndex());
+        assertEquals(List.of("a0"), handled);
+    }
+
+    private Consumer<String> failOn(String failingMessage) {
+        return message -> {
+            if (message.equals(failingMessage)) {
+                throw new IllegalStateException("Could not handle " + message);
+            }
+            handled.add(message);
+        };
+    }
+
+    // Every message is on partition 0 with consecutive offsets starting at firstOffset
+    private void process(List<String> messages, List<String> keys, long firstOffset, Consumer<String> handler) {
+        List<Integer> partitions = messages.stream().map(message -> 0).toList();
+        List<Long> offsets = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            offsets.add(firstOffset + i);
+        }
+        List<Map<String, Object>> headers = messages.stream().map(message -> Map.<String, Object>of()).toList();
+        kafkaBatchProcessor.process(OPERATION, messages, keys, partitions, offsets, headers, handler);
+    }
+
+    private KafkaBatchProcessor kafkaBatchProcessor(KafkaConsumerProcessingMode processingMode) {
+        KafkaConsumerConfigData kafkaConsumerConfigData = new KafkaConsumerConfigData();
+        kafkaConsumerConfigData.setProcessingMode(processingMode);
+        KafkaConsumerTracing kafkaConsumerTracing = mock(KafkaConsumerTracing.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return null;
+        }).when(kafkaConsumerTracing).inSpan(any(), any(), any(), any());
+        return new KafkaBatchProcessor(kafkaConsumerConfigData, kafkaConsumerTracing, new SimpleMeterRegistry());
+    }
+}
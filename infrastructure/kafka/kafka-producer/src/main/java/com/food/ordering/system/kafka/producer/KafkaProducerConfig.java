@@ -48,6 +48,9 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
 
     @Bean
     public KafkaTemplate<K, V> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        KafkaTemplate<K, V> kafkaTemplate = new KafkaTemplate<>(producerFactory());
+        // Creates a producer span per send and writes its trace context into the record headers
+        kafkaTemplate.setObservationEnabled(true);
+        return kafkaTemplate;
     }
 }
@@ -2,6 +2,8 @@ package com.food.ordering.system.kafka.producer.service.impl;
 
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,12 +22,19 @@ import java.util.concurrent.CompletableFuture;
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K, V> {
 
     private final KafkaTemplate<K, V> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void send(String topicName, K key, V message, CompletableFuture<SendResult<K, V>> callback) {
         log.info("Sending message={} to topic={}", message, topicName);
+        Timer.Sample sendSample = Timer.start(meterRegistry);
         CompletableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(topicName, key, message);
         kafkaResultFuture.whenComplete((result, ex) -> {
+            sendSample.stop(Timer.builder("kafka.producer.send")
+                    .description("Time from send until the broker acknowledgement or failure")
+                    .tag("topic", topicName)
+                    .tag("outcome", Objects.nonNull(ex) ? "failure" : "success")
+                    .register(meterRegistry));
             if (Objects.nonNull(ex)) {
                 log.error("Error on kafka producer with key: {}, message: {} and exception: {}", key, message, ex.getMessage());
                 callback.completeExceptionally(new KafkaProducerException("Error on kafka producer with key: " + key + " and message: " + message));
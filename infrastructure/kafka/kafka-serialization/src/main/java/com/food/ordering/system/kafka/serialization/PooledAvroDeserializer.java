@@ -0,0 +1,78 @@
+package com.food.ordering.system.kafka.serialization;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counterpart of {@link PooledAvroSerializer}; reads the Confluent wire format into the generated specific record
+ * class of the writer schema. Writer schemas are fetched once per schema id and decoders are reused per thread.
+ */
+public class PooledAvroDeserializer<T extends SpecificRecordBase> implements Deserializer<T> {
+
+    private static final int HEADER_SIZE = 5;
+
+    private final ThreadLocal<BinaryDecoder> decoders = new ThreadLocal<>();
+    private final Map<Integer, DatumReader<T>> datumReaders = new ConcurrentHashMap<>();
+
+    private SchemaRegistryClient schemaRegistryClient;
+
+    public PooledAvroDeserializer() {
+    }
+
+    public PooledAvroDeserializer(SchemaRegistryClient schemaRegistryClient) {
+        this.schemaRegistryClient = schemaRegistryClient;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (Objects.isNull(schemaRegistryClient)) {
+            schemaRegistryClient = SchemaRegistryClients.fromConfigs(configs);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (Objects.isNull(data)) {
+            return null;
+        }
+        if (data.length < HEADER_SIZE || data[0] != PooledAvroSerializer.MAGIC_BYTE) {
+            throw new SerializationException("Unknown magic byte in Avro message for topic " + topic);
+        }
+        int schemaId = ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+
+        BinaryDecoder decoder = DecoderFactory.get()
+                .binaryDecoder(data, HEADER_SIZE, data.length - HEADER_SIZE, decoders.get());
+        decoders.set(decoder);
+        try {
+            return datumReaders.computeIfAbsent(schemaId, this::createDatumReader).read(null, decoder);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error deserializing Avro message with schema id " + schemaId
+                    + " for topic " + topic, e);
+        }
+    }
+
+    private DatumReader<T> createDatumReader(int schemaId) {
+        try {
+            Schema writerSchema = ((AvroSchema) schemaRegistryClient.getSchemaById(schemaId)).rawSchema();
+            Schema readerSchema = SpecificData.get().getSchema(SpecificData.get().getClass(writerSchema));
+            return new SpecificDatumReader<>(writerSchema, readerSchema, SpecificData.getForSchema(readerSchema));
+        } catch (IOException | RestClientException e) {
+            throw new SerializationException("Error retrieving Avro schema for id " + schemaId, e);
+        }
+    }
+}
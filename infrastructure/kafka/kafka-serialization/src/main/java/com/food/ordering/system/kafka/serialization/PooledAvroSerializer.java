@@ -0,0 +1,107 @@
+package com.food.ordering.system.kafka.serialization;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drop-in replacement for {@code KafkaAvroSerializer} for generated specific records. It writes the same Confluent
+ * wire format (magic byte, 4-byte schema id, Avro binary) but keeps one output buffer and encoder per thread, one
+ * datum writer per schema and resolves each subject/schema pair against the registry only once.
+ */
+public class PooledAvroSerializer<T extends SpecificRecordBase> implements Serializer<T> {
+
+    static final byte MAGIC_BYTE = 0x0;
+
+    private final ThreadLocal<ThreadBuffers> threadBuffers = ThreadLocal.withInitial(ThreadBuffers::new);
+    private final Map<Schema, DatumWriter<T>> datumWriters = new ConcurrentHashMap<>();
+    private final Map<SubjectSchema, Integer> schemaIds = new ConcurrentHashMap<>();
+
+    private SchemaRegistryClient schemaRegistryClient;
+    private boolean autoRegisterSchemas = true;
+    private boolean isKey;
+
+    public PooledAvroSerializer() {
+    }
+
+    public PooledAvroSerializer(SchemaRegistryClient schemaRegistryClient) {
+        this.schemaRegistryClient = schemaRegistryClient;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        this.isKey = isKey;
+        this.autoRegisterSchemas = SchemaRegistryClients.autoRegisterSchemas(configs);
+        if (Objects.isNull(schemaRegistryClient)) {
+            schemaRegistryClient = SchemaRegistryClients.fromConfigs(configs);
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (Objects.isNull(data)) {
+            return null;
+        }
+        Schema schema = data.getSchema();
+        int schemaId = schemaIds.computeIfAbsent(new SubjectSchema(subjectName(topic), schema), this::lookupSchemaId);
+
+        ThreadBuffers buffers = threadBuffers.get();
+        buffers.out.reset();
+        buffers.out.write(MAGIC_BYTE);
+        buffers.out.write(schemaId >>> 24);
+        buffers.out.write(schemaId >>> 16);
+        buffers.out.write(schemaId >>> 8);
+        buffers.out.write(schemaId);
+        buffers.encoder = EncoderFactory.get().directBinaryEncoder(buffers.out, buffers.encoder);
+        try {
+            datumWriters.computeIfAbsent(schema, this::createDatumWriter).write(data, buffers.encoder);
+            buffers.encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error serializing Avro message for topic " + topic, e);
+        }
+        return buffers.out.toByteArray();
+    }
+
+    private String subjectName(String topic) {
+        return topic + (isKey ? "-key" : "-value");
+    }
+
+    private int lookupSchemaId(SubjectSchema subjectSchema) {
+        AvroSchema avroSchema = new AvroSchema(subjectSchema.schema());
+        try {
+            return autoRegisterSchemas
+                    ? schemaRegistryClient.register(subjectSchema.subject(), avroSchema)
+                    : schemaRegistryClient.getId(subjectSchema.subject(), avroSchema);
+        } catch (IOException | RestClientException e) {
+            throw new SerializationException("Error retrieving Avro schema id for subject "
+                    + subjectSchema.subject(), e);
+        }
+    }
+
+    private DatumWriter<T> createDatumWriter(Schema schema) {
+        return new SpecificDatumWriter<>(schema, SpecificData.getForSchema(schema));
+    }
+
+    private record SubjectSchema(String subject, Schema schema) {
+    }
+
+    private static final class ThreadBuffers {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        private BinaryEncoder encoder;
+    }
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.kafka.serialization;
+
+import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import org.apache.kafka.common.config.ConfigException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+final class SchemaRegistryClients {
+
+    private static final String MOCK_URL_PREFIX = "mock://";
+
+    private SchemaRegistryClients() {
+    }
+
+    // Accepts the same schema.registry.url values as the Confluent serializers, including mock:// scopes
+    static SchemaRegistryClient fromConfigs(Map<String, ?> configs) {
+        Object url = configs.get(AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG);
+        if (Objects.isNull(url)) {
+            throw new ConfigException("Missing " + AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG);
+        }
+        List<String> urls = Arrays.stream(url.toString().split(",")).map(String::trim).toList();
+        if (urls.getFirst().startsWith(MOCK_URL_PREFIX)) {
+            return MockSchemaRegistry.getClientForScope(urls.getFirst().substring(MOCK_URL_PREFIX.length()));
+        }
+        return new CachedSchemaRegistryClient(urls, AbstractKafkaSchemaSerDeConfig.MAX_SCHEMAS_PER_SUBJECT_DEFAULT);
+    }
+
+    static boolean autoRegisterSchemas(Map<String, ?> configs) {
+        Object autoRegister = configs.get(AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS);
+        return Objects.isNull(autoRegister) || Boolean.parseBoolean(autoRegister.toString());
+    }
+}
@@ -0,0 +1,74 @@
+package com.food.ordering.system.kafka.serialization;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledAvroSerdeTest {
+
+    private static final String SCOPE = "pooled-avro-serde-test";
+    private static final String TOPIC = "payment-request";
+    private static final Map<String, Object> CONFIGS = Map.of(
+            "schema.registry.url", "mock://" + SCOPE,
+            KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+
+    private final PaymentRequestAvroModel paymentRequestAvroModel = PaymentRequestAvroModel.newBuilder()
+            .setId(UUID.randomUUID().toString())
+            .setSagaId(UUID.randomUUID().toString())
+            .setCustomerId(UUID.randomUUID().toString())
+            .setOrderId(UUID.randomUUID().toString())
+            .setPrice(new BigDecimal("200.00"))
+            .setCreatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+            .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+            .build();
+
+    @AfterEach
+    public void dropScope() {
+        MockSchemaRegistry.dropScope(SCOPE);
+    }
+
+    @Test
+    public void testWritesSameBytesAsKafkaAvroSerializer() {
+        try (KafkaAvroSerializer kafkaAvroSerializer = new KafkaAvroSerializer();
+             PooledAvroSerializer<PaymentRequestAvroModel> pooledAvroSerializer = new PooledAvroSerializer<>()) {
+            kafkaAvroSerializer.configure(CONFIGS, false);
+            pooledAvroSerializer.configure(CONFIGS, false);
+
+            assertArrayEquals(kafkaAvroSerializer.serialize(TOPIC, paymentRequestAvroModel),
+                    pooledAvroSerializer.serialize(TOPIC, paymentRequestAvroModel));
+        }
+    }
+
+    @Test
+    public void testReadsMessagesOfBothSerializers() {
+        try (KafkaAvroSerializer kafkaAvroSerializer = new KafkaAvroSerializer();
+             PooledAvroSerializer<PaymentRequestAvroModel> pooledAvroSerializer = new PooledAvroSerializer<>();
+             KafkaAvroDeserializer kafkaAvroDeserializer = new KafkaAvroDeserializer();
+             PooledAvroDeserializer<SpecificRecordBase> pooledAvroDeserializer = new PooledAvroDeserializer<>()) {
+            kafkaAvroSerializer.configure(CONFIGS, false);
+            pooledAvroSerializer.configure(CONFIGS, false);
+            kafkaAvroDeserializer.configure(CONFIGS, false);
+            pooledAvroDeserializer.configure(CONFIGS, false);
+
+            byte[] pooledBytes = pooledAvroSerializer.serialize(TOPIC, paymentRequestAvroModel);
+            assertEquals(paymentRequestAvroModel, kafkaAvroDeserializer.deserialize(TOPIC, pooledBytes));
+            assertEquals(paymentRequestAvroModel, pooledAvroDeserializer.deserialize(TOPIC, pooledBytes));
+            assertEquals(paymentRequestAvroModel, pooledAvroDeserializer.deserialize(TOPIC,
+                    kafkaAvroSerializer.serialize(TOPIC, paymentRequestAvroModel)));
+        }
+    }
+}
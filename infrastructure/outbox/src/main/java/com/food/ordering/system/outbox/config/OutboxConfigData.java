@@ -0,0 +1,14 @@
+package com.food.ordering.system.outbox.config;
+
+import com.food.ordering.system.outbox.OutboxRelayMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "outbox-config")
+public class OutboxConfigData {
+    private OutboxRelayMode relayMode = OutboxRelayMode.POLLING;
+    private String notifyChannel = "outbox";
+}
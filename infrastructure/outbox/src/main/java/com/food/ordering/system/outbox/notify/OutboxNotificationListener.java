@@ -0,0 +1,76 @@
+package com.food.ordering.system.outbox.notify;
+
+import com.food.ordering.system.outbox.OutboxScheduler;
+import com.food.ordering.system.outbox.config.OutboxConfigData;
+import com.food.ordering.system.postgres.notification.PostgresNotificationHandler;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox-config", name = "relay-mode", havingValue = "NOTIFY")
+public class OutboxNotificationListener implements PostgresNotificationHandler {
+
+    private final OutboxConfigData outboxConfigData;
+    private final List<OutboxScheduler> outboxSchedulers;
+    private final ExecutorService relayExecutor;
+    private final AtomicBoolean relayPending = new AtomicBoolean(false);
+
+    public OutboxNotificationListener(OutboxConfigData outboxConfigData,
+                                      List<OutboxScheduler> outboxSchedulers) {
+        this.outboxConfigData = outboxConfigData;
+        this.outboxSchedulers = outboxSchedulers;
+        this.relayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-notification-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String channel() {
+        return outboxConfigData.getNotifyChannel();
+    }
+
+    @Override
+    public void onNotification(String payload) {
+        log.debug("Received outbox notification for table: {}", payload);
+        triggerRelay();
+    }
+
+    // Rows inserted while no connection was listening would otherwise wait for the safety net poll.
+    @Override
+    public void onListening() {
+        triggerRelay();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayExecutor.shutdown();
+    }
+
+    private void triggerRelay() {
+        // A burst of notifications collapses into a single relay run; one arriving
+        // while a run is in progress schedules exactly one more.
+        if (relayPending.compareAndSet(false, true)) {
+            relayExecutor.execute(() -> {
+                relayPending.set(false);
+                outboxSchedulers.forEach(outboxScheduler -> {
+                    try {
+                        outboxScheduler.processOutboxMessage();
+                    } catch (Exception e) {
+                        log.error("Error while relaying outbox messages with {}",
+                                outboxScheduler.getClass().getSimpleName(), e);
+                    }
+                });
+            });
+        }
+    }
+}
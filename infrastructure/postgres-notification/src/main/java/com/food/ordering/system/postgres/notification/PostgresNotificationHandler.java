@@ -0,0 +1,15 @@
+package com.food.ordering.system.postgres.notification;
+
+/**
+ * Receives the notifications of one PostgreSQL channel through {@link PostgresNotificationListener}.
+ */
+public interface PostgresNotificationHandler {
+
+    String channel();
+
+    void onNotification(String payload);
+
+    // Called after every (re)connect, notifications sent while no connection was listening are lost
+    default void onListening() {
+    }
+}
@@ -0,0 +1,116 @@
+package com.food.ordering.system.postgres.notification;
+
+import com.food.ordering.system.postgres.notification.config.PostgresNotificationConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Listens on the channels of every {@link PostgresNotificationHandler} over a single dedicated connection and
+ * dispatches each notification to the handlers of its channel. A lost connection is re-established after a backoff.
+ */
+@Slf4j
+@Component
+public class PostgresNotificationListener implements SmartLifecycle {
+
+    private final DataSource dataSource;
+    private final PostgresNotificationConfigData postgresNotificationConfigData;
+    private final Map<String, List<PostgresNotificationHandler>> handlersByChannel;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresNotificationListener(DataSource dataSource,
+                                        PostgresNotificationConfigData postgresNotificationConfigData,
+                                        List<PostgresNotificationHandler> handlers) {
+        this.dataSource = dataSource;
+        this.postgresNotificationConfigData = postgresNotificationConfigData;
+        this.handlersByChannel = handlers.stream()
+                .collect(Collectors.groupingBy(PostgresNotificationHandler::channel));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (handlersByChannel.isEmpty()) {
+            return;
+        }
+        listenerThread = new Thread(this::listen, "postgres-notification-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (Objects.nonNull(listenerThread)) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                for (String channel : handlersByChannel.keySet()) {
+                    statement.execute("LISTEN \"" + channel + "\"");
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for notifications on channels: {}", handlersByChannel.keySet());
+
+                handlersByChannel.forEach((channel, handlers) ->
+                        handlers.forEach(handler -> dispatch(channel, handler::onListening)));
+                while (running) {
+                    PGNotification[] notifications =
+                            pgConnection.getNotifications(postgresNotificationConfigData.getTimeoutMs());
+                    if (Objects.nonNull(notifications)) {
+                        for (PGNotification notification : notifications) {
+                            handlersByChannel.getOrDefault(notification.getName(), List.of()).forEach(handler ->
+                                    dispatch(notification.getName(),
+                                            () -> handler.onNotification(notification.getParameter())));
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.error("Notification listener lost its connection, reconnecting in {} ms",
+                            postgresNotificationConfigData.getReconnectBackoffMs(), e);
+                    backoff();
+                }
+            }
+        }
+    }
+
+    // A failing handler must neither end the listener thread nor keep the other handlers from their notifications
+    private void dispatch(String channel, Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            log.error("Error while handling notification on channel: {}", channel, e);
+        }
+    }
+
+    private void backoff() {
+        try {
+            Thread.sleep(postgresNotificationConfigData.getReconnectBackoffMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
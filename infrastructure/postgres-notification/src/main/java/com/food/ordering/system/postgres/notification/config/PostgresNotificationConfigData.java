@@ -0,0 +1,13 @@
+package com.food.ordering.system.postgres.notification.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "postgres-notification-config")
+public class PostgresNotificationConfigData {
+    private Integer timeoutMs = 1000;
+    private Long reconnectBackoffMs = 5000L;
+}
@@ -0,0 +1,27 @@
+package com.food.ordering.system.saga;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Observation of one saga step, recorded as the saga.step timer and a span. Listeners observe the step outside its
+ * transaction so commit time is included.
+ */
+public class SagaStepObservation {
+
+    private SagaStepObservation() {}
+
+    public static final String NAME = "saga.step";
+
+    public static Observation of(ObservationRegistry observationRegistry, String saga, String step) {
+        return Observation.createNotStarted(NAME, observationRegistry)
+                .contextualName(saga + " " + step)
+                .lowCardinalityKeyValue("saga", saga)
+                .lowCardinalityKeyValue("step", step);
+    }
+
+    public static Observation of(ObservationRegistry observationRegistry, String saga, String step, String orderId) {
+        return of(observationRegistry, saga, step)
+                .highCardinalityKeyValue("order.id", orderId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.food.ordering.system.threading.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "threading-config")
+public class ThreadingConfigData {
+    private Boolean pinningMonitorEnabled = true;
+    private Long pinningThresholdMs = 20L;
+    private Integer pinningStackDepth = 12;
+}
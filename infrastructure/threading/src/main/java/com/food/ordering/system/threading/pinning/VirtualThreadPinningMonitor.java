@@ -0,0 +1,88 @@
+package com.food.ordering.system.threading.pinning;
+
+import com.food.ordering.system.threading.config.ThreadingConfigData;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Logs every jdk.VirtualThreadPinned JFR event above the configured threshold together with the frames that held the
+ * carrier, typically a synchronized block around blocking JDBC or Kafka client I/O. Only active in virtual-thread mode.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "threading-config", name = "pinning-monitor-enabled", havingValue = "true",
+        matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final ThreadingConfigData threadingConfigData;
+    private final LongAdder pinnedCount = new LongAdder();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(ThreadingConfigData threadingConfigData) {
+        this.threadingConfigData = threadingConfigData;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(threadingConfigData.getPinningThresholdMs()))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Monitoring virtual thread pinning longer than {} ms", threadingConfigData.getPinningThresholdMs());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (Objects.nonNull(stream)) {
+            stream.close();
+            log.info("Stopped virtual thread pinning monitor after {} pinned events", pinnedCount.sum());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return Objects.nonNull(recordingStream);
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        String frames = Objects.isNull(event.getStackTrace()) ? "<no stack trace>" :
+                event.getStackTrace().getFrames().stream()
+                        .limit(threadingConfigData.getPinningStackDepth())
+                        .map(this::formatFrame)
+                        .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+        log.warn("Virtual thread {} pinned its carrier for {} ms:{}",
+                Objects.isNull(event.getThread()) ? "?" : event.getThread().getJavaName(),
+                event.getDuration().toMillis(), frames);
+    }
+
+    private String formatFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class LoadTestApplication {
+    public static void main(String[] args) {
+        // Exits once the run is reported, stopping the stand-ins through the context shutdown
+        System.exit(SpringApplication.exit(SpringApplication.run(LoadTestApplication.class, args)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.loadtest;
+
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import com.food.ordering.system.loadtest.driver.LoadDriver;
+import com.food.ordering.system.loadtest.report.LoadTestMetrics;
+import com.food.ordering.system.loadtest.report.LoadTestReport;
+import com.food.ordering.system.loadtest.standin.StandInStack;
+import com.food.ordering.system.loadtest.workload.ScheduledOrder;
+import com.food.ordering.system.loadtest.workload.WorkloadFiles;
+import com.food.ordering.system.loadtest.workload.WorkloadGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Runs one load test: either replays a recorded order mix or generates one at the configured rate, optionally
+ * records it for later runs, drives it against the order service and reports the results.
+ * <pre>java -jar load-test/target/load-test-1.0-SNAPSHOT.jar --load-test.rate-per-second=100</pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements CommandLineRunner {
+
+    private final LoadTestConfigData loadTestConfigData;
+    private final WorkloadGenerator workloadGenerator;
+    private final WorkloadFiles workloadFiles;
+    private final StandInStack standInStack;
+    private final LoadDriver loadDriver;
+    private final LoadTestReport loadTestReport;
+
+    @Override
+    public void run(String... args) throws Exception {
+        boolean replay = isSet(loadTestConfigData.getReplayFile());
+        List<ScheduledOrder> scheduledOrders = replay
+                ? workloadFiles.read(Path.of(loadTestConfigData.getReplayFile()))
+                : workloadGenerator.generate();
+        if (isSet(loadTestConfigData.getRecordFile())) {
+            workloadFiles.write(Path.of(loadTestConfigData.getRecordFile()), scheduledOrders);
+        }
+
+        try {
+            String orderServiceUrl = loadTestConfigData.getStandIns().getEnabled()
+                    ? standInStack.start()
+                    : loadTestConfigData.getOrderServiceUrl();
+            // Generated orders are already spaced at the configured rate
+            double speed = replay ? loadTestConfigData.getReplaySpeed() : 1.0;
+            LoadTestMetrics metrics = loadDriver.run(orderServiceUrl, scheduledOrders, speed);
+            loadTestReport.write(loadTestConfigData.getReportFile(), metrics);
+        } finally {
+            standInStack.close();
+        }
+    }
+
+    private static boolean isSet(String value) {
+        return Objects.nonNull(value) && !value.isBlank();
+    }
+}
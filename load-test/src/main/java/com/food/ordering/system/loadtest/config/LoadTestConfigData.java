@@ -0,0 +1,70 @@
+package com.food.ordering.system.loadtest.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "load-test")
+public class LoadTestConfigData {
+    // Ignored when the stand-ins are enabled, the launched order service is targeted instead
+    private String orderServiceUrl;
+    private Double ratePerSecond;
+    private Integer durationSeconds;
+    private Integer maxInFlight;
+    private Long sagaTimeoutMs;
+    private String recordFile;
+    private String replayFile;
+    private Double replaySpeed;
+    private String reportFile;
+    private Mix mix;
+    private StandIns standIns;
+
+    @Data
+    public static class Mix {
+        private Long seed;
+        private Integer fundedCustomers;
+        private Integer unfundedCustomers;
+        // Share of orders placed by customers without credit, which run the payment compensation path
+        private Double paymentFailureRatio;
+        private UUID restaurantId;
+        private List<Product> products;
+        private Integer maxItems;
+        private Integer maxQuantity;
+    }
+
+    @Data
+    public static class Product {
+        private UUID id;
+        private BigDecimal price;
+    }
+
+    @Data
+    public static class StandIns {
+        private Boolean enabled;
+        private String workDir;
+        private Integer kafkaPartitions;
+        private List<String> topics;
+        private BigDecimal fundedCredit;
+        private Long startupTimeoutMs;
+        private String javaExecutable;
+        private List<String> jvmArgs;
+        private List<String> commonArgs;
+        private Service orderService;
+        private Service paymentService;
+        private Service restaurantService;
+    }
+
+    @Data
+    public static class Service {
+        private String name;
+        private String jar;
+        private Integer port;
+        private String schema;
+    }
+}
@@ -0,0 +1,188 @@
+package com.food.ordering.system.loadtest.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import com.food.ordering.system.loadtest.report.LoadTestMetrics;
+import com.food.ordering.system.loadtest.workload.OrderRequest;
+import com.food.ordering.system.loadtest.workload.ScheduledOrder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends the scheduled orders to POST /orders and follows every created order through the long-poll tracking endpoint
+ * until its saga reaches a terminal status, recording each observed status change as a stage.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadDriver {
+
+    private static final String MEDIA_TYPE = "application/vnd.API.v1+json";
+    private static final String PENDING = "PENDING";
+    private static final Set<String> TERMINAL_STATUSES = Set.of("APPROVED", "CANCELLED");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTestConfigData loadTestConfigData;
+    private final ObjectMapper objectMapper;
+
+    public LoadTestMetrics run(String orderServiceUrl, List<ScheduledOrder> scheduledOrders, double speed)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(loadTestConfigData.getMaxInFlight());
+        long sagaTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(loadTestConfigData.getSagaTimeoutMs());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(executor).build()) {
+            OrderTracker tracker = new OrderTracker(httpClient, orderServiceUrl);
+            long startNanos = System.nanoTime();
+            LoadTestMetrics metrics = new LoadTestMetrics(startNanos);
+            List<CompletableFuture<Void>> sagas = new ArrayList<>(scheduledOrders.size());
+            log.info("Sending {} orders to {}", scheduledOrders.size(), orderServiceUrl);
+
+            for (ScheduledOrder scheduledOrder : scheduledOrders) {
+                long intendedNanos = startNanos
+                        + (long) (TimeUnit.MICROSECONDS.toNanos(scheduledOrder.offsetMicros()) / speed);
+                parkUntil(intendedNanos);
+                inFlight.acquire();
+                metrics.recordSent(intendedNanos);
+                sagas.add(tracker.place(scheduledOrder.order(), intendedNanos, intendedNanos + sagaTimeoutNanos,
+                                metrics)
+                        .whenComplete((ignored, throwable) -> inFlight.release()));
+            }
+
+            log.info("All orders sent, waiting for {} outstanding sagas to complete",
+                    loadTestConfigData.getMaxInFlight() - inFlight.availablePermits());
+            CompletableFuture.allOf(sagas.toArray(CompletableFuture[]::new)).join();
+            return metrics;
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private class OrderTracker {
+
+        private final HttpClient httpClient;
+        private final String orderServiceUrl;
+
+        CompletableFuture<Void> place(OrderRequest order,
+                                      long intendedNanos,
+                                      long deadlineNanos,
+                                      LoadTestMetrics metrics) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(orderServiceUrl + "/orders"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", MEDIA_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(order)))
+                    .build();
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .thenCompose(response -> {
+                        long createdNanos = System.nanoTime();
+                        if (response.statusCode() != 201) {
+                            log.warn("Order rejected with status {}: {}", response.statusCode(),
+                                    new String(response.body(), StandardCharsets.UTF_8));
+                            metrics.recordRejected();
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        metrics.recordCreated(createdNanos - intendedNanos);
+                        String trackingId = readTree(response.body()).path("orderTrackingId").asText();
+                        return track(trackingId, null, PENDING, createdNanos, intendedNanos, deadlineNanos, metrics);
+                    })
+                    .exceptionally(throwable -> {
+                        log.warn("Order failed: {}", throwable.getMessage());
+                        metrics.recordError();
+                        return null;
+                    });
+        }
+
+        // Without an ETag the await endpoint answers at once, which yields the ETag of the current status
+        private CompletableFuture<Void> track(String trackingId,
+                                              String eTag,
+                                              String status,
+                                              long statusSinceNanos,
+                                              long intendedNanos,
+                                              long deadlineNanos,
+                                              LoadTestMetrics metrics) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(
+                            URI.create(orderServiceUrl + "/orders/" + trackingId + "/await"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Accept", MEDIA_TYPE)
+                    .GET();
+            if (Objects.nonNull(eTag)) {
+                request.header("If-None-Match", eTag);
+            }
+            return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                    .thenCompose(response -> {
+                        long nowNanos = System.nanoTime();
+                        String currentETag = eTag;
+                        String currentStatus = status;
+                        long currentSinceNanos = statusSinceNanos;
+                        if (response.statusCode() == 200) {
+                            currentETag = response.headers().firstValue("ETag").orElse(null);
+                            currentStatus = readTree(response.body()).path("orderStatus").asText();
+                            if (!currentStatus.equals(status)) {
+                                metrics.recordStage(status, currentStatus, nowNanos - statusSinceNanos);
+                                currentSinceNanos = nowNanos;
+                            }
+                        } else if (response.statusCode() != 304) {
+                            log.warn("Tracking {} failed with status {}", trackingId, response.statusCode());
+                            metrics.recordError();
+                            return CompletableFuture.completedFuture(null);
+                        }
+
+                        if (TERMINAL_STATUSES.contains(currentStatus)) {
+                            metrics.recordSagaCompleted(currentStatus, nowNanos - intendedNanos, nowNanos);
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        if (nowNanos - deadlineNanos > 0) {
+                            log.warn("Saga of {} did not complete in time, last status {}", trackingId, currentStatus);
+                            metrics.recordTimedOut();
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        return track(trackingId, currentETag, currentStatus, currentSinceNanos, intendedNanos,
+                                deadlineNanos, metrics);
+                    });
+        }
+
+        private byte[] toJson(OrderRequest order) {
+            try {
+                return objectMapper.writeValueAsBytes(order);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private JsonNode readTree(byte[] body) {
+            try {
+                return objectMapper.readTree(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.food.ordering.system.loadtest.report;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latencies are recorded in microseconds and measured from the intended send time, so a stalled system
+// is not hidden by the generator falling behind (coordinated omission)
+public class LoadTestMetrics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final long startNanos;
+    private final AtomicLong lastSagaCompletedNanos;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final Histogram createLatency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final ConcurrentMap<String, Histogram> stageLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> sagaLatencies = new ConcurrentHashMap<>();
+    private volatile long lastSentNanos;
+
+    public LoadTestMetrics(long startNanos) {
+        this.startNanos = startNanos;
+        this.lastSentNanos = startNanos;
+        this.lastSagaCompletedNanos = new AtomicLong(startNanos);
+    }
+
+    public void recordSent(long intendedNanos) {
+        sent.increment();
+        lastSentNanos = intendedNanos;
+    }
+
+    public void recordCreated(long latencyNanos) {
+        createLatency.recordValue(toMicros(latencyNanos));
+    }
+
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public void recordTimedOut() {
+        timedOut.increment();
+    }
+
+    // Statuses the tracker did not observe in between are skipped, e.g. PENDING -> APPROVED
+    public void recordStage(String fromStatus, String toStatus, long latencyNanos) {
+        stageLatencies.computeIfAbsent(fromStatus + " -> " + toStatus,
+                        stage -> new ConcurrentHistogram(SIGNIFICANT_DIGITS))
+                .recordValue(toMicros(latencyNanos));
+    }
+
+    public void recordSagaCompleted(String terminalStatus, long latencyNanos, long completedNanos) {
+        sagaLatencies.computeIfAbsent(terminalStatus, status -> new ConcurrentHistogram(SIGNIFICANT_DIGITS))
+                .recordValue(toMicros(latencyNanos));
+        lastSagaCompletedNanos.accumulateAndGet(completedNanos, Math::max);
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getCreated() {
+        return createLatency.getTotalCount();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+
+    public long getSagasCompleted() {
+        return sagaLatencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public long getSendWindowNanos() {
+        return lastSentNanos - startNanos;
+    }
+
+    public long getSagaWindowNanos() {
+        return lastSagaCompletedNanos.get() - startNanos;
+    }
+
+    public Histogram getCreateLatency() {
+        return createLatency;
+    }
+
+    public Map<String, Histogram> getStageLatencies() {
+        return stageLatencies;
+    }
+
+    public Map<String, Histogram> getSagaLatencies() {
+        return sagaLatencies;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+}
@@ -0,0 +1,69 @@
+package com.food.ordering.system.loadtest.report;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@Slf4j
+@Component
+public class LoadTestReport {
+
+    private static final String ROW_FORMAT = "  %-28s %8s %10s %10s %10s %10s%n";
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final double MICROS_PER_MILLI = 1_000d;
+
+    public String format(LoadTestMetrics metrics) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Orders sent: %d, created: %d, rejected: %d, errors: %d, saga timeouts: %d%n",
+                metrics.getSent(), metrics.getCreated(), metrics.getRejected(), metrics.getErrors(),
+                metrics.getTimedOut()));
+        report.append(String.format("Offered rate: %.1f orders/sec, saga throughput: %.1f orders/sec%n",
+                perSecond(metrics.getSent(), metrics.getSendWindowNanos()),
+                perSecond(metrics.getSagasCompleted(), metrics.getSagaWindowNanos())));
+        report.append(String.format(ROW_FORMAT, "latency (ms)", "count", "p50", "p95", "p99", "max"));
+        appendRow(report, "POST /orders", metrics.getCreateLatency());
+        new TreeMap<>(metrics.getStageLatencies()).forEach((stage, histogram) ->
+                appendRow(report, "stage " + stage, histogram));
+        new TreeMap<>(metrics.getSagaLatencies()).forEach((status, histogram) ->
+                appendRow(report, "saga until " + status, histogram));
+        return report.toString();
+    }
+
+    public void write(String reportFile, LoadTestMetrics metrics) {
+        String report = format(metrics);
+        log.info("Load test finished{}{}", System.lineSeparator(), report);
+        if (Objects.isNull(reportFile) || reportFile.isBlank()) {
+            return;
+        }
+        try {
+            Path path = Path.of(reportFile);
+            if (Objects.nonNull(path.getParent())) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write load test report to " + reportFile, e);
+        }
+    }
+
+    private void appendRow(StringBuilder report, String name, Histogram histogram) {
+        report.append(String.format(ROW_FORMAT, name, histogram.getTotalCount(),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getMaxValue())));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / MICROS_PER_MILLI);
+    }
+
+    private static double perSecond(long count, long windowNanos) {
+        return windowNanos <= 0 ? 0 : count * NANOS_PER_SECOND / windowNanos;
+    }
+}
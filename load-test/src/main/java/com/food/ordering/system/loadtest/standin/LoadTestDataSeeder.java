@@ -0,0 +1,102 @@
+package com.food.ordering.system.loadtest.standin;
+
+import com.food.ordering.system.loadtest.workload.LoadTestCustomers;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Slf4j
+class LoadTestDataSeeder {
+
+    private static final String CUSTOMER_SCHEMA = "stand-in/customer-schema.sql";
+
+    private final DataSource dataSource;
+
+    LoadTestDataSeeder(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // Must run before the order service starts, it loads its customer existence cache on startup
+    void seedCustomers(int fundedCount, int unfundedCount) throws SQLException, IOException {
+        List<UUID> customers = Stream.concat(
+                LoadTestCustomers.funded(fundedCount).stream(),
+                LoadTestCustomers.unfunded(unfundedCount).stream()).toList();
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(readScript());
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO customer.order_customer_m_view(id, username, first_name, last_name) " +
+                            "VALUES (?, ?, 'Load', 'Test')")) {
+                for (int i = 0; i < customers.size(); i++) {
+                    statement.setObject(1, customers.get(i));
+                    statement.setString(2, "load_test_" + i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        log.info("Seeded {} funded and {} unfunded customers", fundedCount, unfundedCount);
+    }
+
+    // Must run after the payment service created its schema; unfunded customers get an empty credit entry
+    void seedCredits(int fundedCount, int unfundedCount, BigDecimal fundedCredit) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement creditEntry = connection.prepareStatement(
+                     "INSERT INTO payment.credit_entry(id, customer_id, total_credit_amount) VALUES (?, ?, ?)");
+             PreparedStatement creditHistory = connection.prepareStatement(
+                     "INSERT INTO payment.credit_history(id, customer_id, amount, type) VALUES (?, ?, ?, 'CREDIT')");
+             PreparedStatement creditLedger = connection.prepareStatement(
+                     "INSERT INTO payment.credit_ledger(customer_id, total_credit_amount, total_debit_amount) " +
+                             "VALUES (?, ?, 0)")) {
+            for (UUID customerId : LoadTestCustomers.funded(fundedCount)) {
+                addCreditEntry(creditEntry, customerId, fundedCredit);
+                creditHistory.setObject(1, UUID.randomUUID());
+                creditHistory.setObject(2, customerId);
+                creditHistory.setBigDecimal(3, fundedCredit);
+                creditHistory.addBatch();
+                addCreditLedger(creditLedger, customerId, fundedCredit);
+            }
+            for (UUID customerId : LoadTestCustomers.unfunded(unfundedCount)) {
+                addCreditEntry(creditEntry, customerId, BigDecimal.ZERO);
+                addCreditLedger(creditLedger, customerId, BigDecimal.ZERO);
+            }
+            creditEntry.executeBatch();
+            creditHistory.executeBatch();
+            creditLedger.executeBatch();
+        }
+        log.info("Seeded credit of {} for {} funded customers", fundedCredit, fundedCount);
+    }
+
+    private void addCreditEntry(PreparedStatement statement, UUID customerId, BigDecimal amount) throws SQLException {
+        statement.setObject(1, UUID.randomUUID());
+        statement.setObject(2, customerId);
+        statement.setBigDecimal(3, amount);
+        statement.addBatch();
+    }
+
+    private void addCreditLedger(PreparedStatement statement, UUID customerId, BigDecimal amount) throws SQLException {
+        statement.setObject(1, customerId);
+        statement.setBigDecimal(2, amount);
+        statement.addBatch();
+    }
+
+    private String readScript() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(CUSTOMER_SCHEMA)) {
+            Objects.requireNonNull(inputStream, CUSTOMER_SCHEMA + " not found on the classpath");
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.food.ordering.system.loadtest.standin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * In-memory stand-in for the few schema registry REST calls the serializers make. The mock:// registry of the
+ * Confluent client is scoped to a single JVM, while the services under test run as separate processes and have to
+ * agree on schema ids, so the harness serves one shared registry over HTTP instead.
+ */
+@Slf4j
+public class SchemaRegistryStandIn implements AutoCloseable {
+
+    private static final String CONTENT_TYPE = "application/vnd.schemaregistry.v1+json";
+
+    private final ObjectMapper objectMapper;
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final ConcurrentMap<String, Integer> idsBySchema = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, String> schemasById = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<Integer>> idsBySubject = new ConcurrentHashMap<>();
+    private HttpServer server;
+
+    public SchemaRegistryStandIn(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+        log.info("Schema registry stand-in listening on {}", getUrl());
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        if (Objects.nonNull(server)) {
+            server.stop(0);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String[] segments = exchange.getRequestURI().getPath().split("/");
+            String method = exchange.getRequestMethod();
+            // POST /subjects/{subject}/versions registers, POST /subjects/{subject} looks a schema up
+            if ("POST".equals(method) && segments.length >= 3 && "subjects".equals(segments[1])) {
+                String subject = URLDecoder.decode(segments[2], StandardCharsets.UTF_8);
+                String schema = objectMapper.readTree(exchange.getRequestBody()).path("schema").asText();
+                if (segments.length == 4 && "versions".equals(segments[3])) {
+                    respond(exchange, 200, Map.of("id", register(subject, schema)));
+                } else {
+                    lookup(exchange, subject, schema);
+                }
+            } else if ("GET".equals(method) && segments.length == 4 && "schemas".equals(segments[1])
+                    && "ids".equals(segments[2])) {
+                String schema = schemasById.get(Integer.parseInt(segments[3]));
+                if (Objects.isNull(schema)) {
+                    respond(exchange, 404, Map.of("error_code", 40403, "message", "Schema not found"));
+                } else {
+                    respond(exchange, 200, Map.of("schema", schema));
+                }
+            } else {
+                log.warn("Unsupported schema registry call: {} {}", method, exchange.getRequestURI());
+                respond(exchange, 404, Map.of("error_code", 404, "message", "Not supported by the stand-in"));
+            }
+        }
+    }
+
+    private int register(String subject, String schema) {
+        int id = idsBySchema.computeIfAbsent(schema, key -> {
+            int newId = nextId.getAndIncrement();
+            schemasById.put(newId, key);
+            return newId;
+        });
+        idsBySubject.compute(subject, (key, ids) -> {
+            if (Objects.isNull(ids)) {
+                return List.of(id);
+            }
+            return ids.contains(id) ? ids : concat(ids, id);
+        });
+        log.info("Registered schema id {} for subject {}", id, subject);
+        return id;
+    }
+
+    private void lookup(HttpExchange exchange, String subject, String schema) throws IOException {
+        Integer id = idsBySchema.get(schema);
+        List<Integer> subjectIds = idsBySubject.getOrDefault(subject, List.of());
+        if (Objects.isNull(id) || !subjectIds.contains(id)) {
+            respond(exchange, 404, Map.of("error_code", 40403, "message", "Schema not found"));
+            return;
+        }
+        respond(exchange, 200, Map.of("subject", subject, "version", subjectIds.indexOf(id) + 1,
+                "id", id, "schema", schema));
+    }
+
+    private static List<Integer> concat(List<Integer> ids, int id) {
+        return Stream.concat(ids.stream(), Stream.of(id)).toList();
+    }
+
+    private void respond(HttpExchange exchange, int status, Map<String, ?> body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.food.ordering.system.loadtest.standin;
+
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// A service container jar started as a child process, so each service keeps its own application.yml and classpath
+@Slf4j
+public class ServiceProcess implements AutoCloseable {
+
+    private static final Duration HEALTH_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+
+    private final LoadTestConfigData.Service service;
+    private final Process process;
+
+    private ServiceProcess(LoadTestConfigData.Service service, Process process) {
+        this.service = service;
+        this.process = process;
+    }
+
+    public static ServiceProcess start(LoadTestConfigData.StandIns standIns,
+                                       LoadTestConfigData.Service service,
+                                       List<String> serviceArgs) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(standIns.getJavaExecutable());
+        command.addAll(standIns.getJvmArgs());
+        command.add("-jar");
+        command.add(service.getJar());
+        command.add("--server.port=" + service.getPort());
+        command.addAll(standIns.getCommonArgs());
+        command.addAll(serviceArgs);
+
+        Path logFile = Path.of(standIns.getWorkDir(), service.getName() + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        log.info("Started {} with pid {}, logging to {}", service.getName(), process.pid(), logFile);
+        return new ServiceProcess(service, process);
+    }
+
+    public void awaitHealthy(HttpClient httpClient, long timeoutMs) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(getUrl() + "/actuator/health")).GET().build();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service.getName() + " exited with code " + process.exitValue()
+                        + ", see " + service.getName() + ".log");
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info("{} is up on {}", service.getName(), getUrl());
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(HEALTH_POLL_INTERVAL);
+        }
+        throw new IllegalStateException(service.getName() + " did not become healthy within " + timeoutMs + " ms");
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + service.getPort();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("{} did not stop within {} seconds, killing it", service.getName(), STOP_TIMEOUT_SECONDS);
+            process.destroyForcibly().waitFor();
+        }
+        log.info("Stopped {}", service.getName());
+    }
+}
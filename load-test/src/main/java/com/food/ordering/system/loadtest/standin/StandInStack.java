@@ -0,0 +1,99 @@
+package com.food.ordering.system.loadtest.standin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Starts an embedded Postgres, a single-node KRaft Kafka and the schema registry stand-in, seeds load-test customers
+ * and launches the restaurant, payment and order services against them. Everything is torn down in reverse order.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StandInStack implements AutoCloseable {
+
+    private final LoadTestConfigData loadTestConfigData;
+    private final ObjectMapper objectMapper;
+
+    private final Deque<AutoCloseable> started = new ArrayDeque<>();
+
+    // Returns the url of the launched order service
+    public String start() throws Exception {
+        LoadTestConfigData.StandIns standIns = loadTestConfigData.getStandIns();
+        LoadTestConfigData.Mix mix = loadTestConfigData.getMix();
+        Files.createDirectories(Path.of(standIns.getWorkDir()));
+
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        started.push(postgres);
+        log.info("Embedded Postgres listening on port {}", postgres.getPort());
+        LoadTestDataSeeder seeder = new LoadTestDataSeeder(postgres.getPostgresDatabase());
+        seeder.seedCustomers(mix.getFundedCustomers(), mix.getUnfundedCustomers());
+
+        SchemaRegistryStandIn schemaRegistry = new SchemaRegistryStandIn(objectMapper);
+        schemaRegistry.start();
+        started.push(schemaRegistry);
+
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, standIns.getKafkaPartitions(),
+                standIns.getTopics().toArray(String[]::new));
+        kafka.afterPropertiesSet();
+        started.push(kafka::destroy);
+        log.info("Embedded Kafka listening on {}", kafka.getBrokersAsString());
+
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            ServiceProcess restaurant = launch(standIns, standIns.getRestaurantService(), postgres, kafka,
+                    schemaRegistry);
+            ServiceProcess payment = launch(standIns, standIns.getPaymentService(), postgres, kafka, schemaRegistry);
+            restaurant.awaitHealthy(httpClient, standIns.getStartupTimeoutMs());
+            payment.awaitHealthy(httpClient, standIns.getStartupTimeoutMs());
+            seeder.seedCredits(mix.getFundedCustomers(), mix.getUnfundedCustomers(), standIns.getFundedCredit());
+
+            // Started last, it reads the customer and restaurant projections created above
+            ServiceProcess order = launch(standIns, standIns.getOrderService(), postgres, kafka, schemaRegistry);
+            order.awaitHealthy(httpClient, standIns.getStartupTimeoutMs());
+            return order.getUrl();
+        }
+    }
+
+    @Override
+    public void close() {
+        while (!started.isEmpty()) {
+            try {
+                started.pop().close();
+            } catch (Exception e) {
+                log.warn("Could not stop stand-in cleanly", e);
+            }
+        }
+    }
+
+    private ServiceProcess launch(LoadTestConfigData.StandIns standIns,
+                                  LoadTestConfigData.Service service,
+                                  EmbeddedPostgres postgres,
+                                  EmbeddedKafkaKraftBroker kafka,
+                                  SchemaRegistryStandIn schemaRegistry) throws Exception {
+        ServiceProcess serviceProcess = ServiceProcess.start(standIns, service, List.of(
+                "--spring.datasource.url=jdbc:postgresql://localhost:" + postgres.getPort()
+                        + "/postgres?currentSchema=" + service.getSchema()
+                        + "&binaryTransfer=true&reWriteBatchedInserts=true&stringtype=unspecified",
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--kafka-config.bootstrap-servers=" + kafka.getBrokersAsString(),
+                "--kafka-config.schema-registry-url=" + schemaRegistry.getUrl(),
+                "--kafka-config.num-of-partitions=" + standIns.getKafkaPartitions(),
+                "--kafka-config.replication-factor=1"
+        ));
+        started.push(serviceProcess);
+        return serviceProcess;
+    }
+}
@@ -0,0 +1,27 @@
+package com.food.ordering.system.loadtest.workload;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+// Customer ids are derived from their index, so recordings replay against any freshly seeded stand-in database
+public final class LoadTestCustomers {
+
+    private LoadTestCustomers() {
+    }
+
+    public static List<UUID> funded(int count) {
+        return customerIds("load-test-funded-customer-", count);
+    }
+
+    public static List<UUID> unfunded(int count) {
+        return customerIds("load-test-unfunded-customer-", count);
+    }
+
+    private static List<UUID> customerIds(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> UUID.nameUUIDFromBytes((prefix + i).getBytes(StandardCharsets.UTF_8)))
+                .toList();
+    }
+}
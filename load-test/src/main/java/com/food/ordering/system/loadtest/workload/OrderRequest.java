@@ -0,0 +1,15 @@
+package com.food.ordering.system.loadtest.workload;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+// Same JSON shape as the order service CreateOrderCommand, kept local so recordings do not depend on its classes
+public record OrderRequest(UUID customerId, UUID restaurantId, BigDecimal price, List<Item> items, Address address) {
+
+    public record Item(UUID productId, Integer quantity, BigDecimal price, BigDecimal subTotal) {
+    }
+
+    public record Address(String street, String postalCode, String city) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.loadtest.workload;
+
+// One line of a recorded order mix: the order and when it is sent, relative to the start of the run
+public record ScheduledOrder(long offsetMicros, OrderRequest order) {
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.loadtest.workload;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// Recorded order mixes are JSON lines of ScheduledOrder, so they can also be written or trimmed by hand
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkloadFiles {
+
+    private final ObjectMapper objectMapper;
+
+    public List<ScheduledOrder> read(Path path) {
+        try (Stream<String> lines = Files.lines(path)) {
+            List<ScheduledOrder> scheduledOrders = lines
+                    .filter(line -> !line.isBlank())
+                    .map(this::parse)
+                    .toList();
+            log.info("Read {} recorded orders from {}", scheduledOrders.size(), path);
+            return scheduledOrders;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read recorded orders from " + path, e);
+        }
+    }
+
+    public void write(Path path, List<ScheduledOrder> scheduledOrders) {
+        try {
+            if (Objects.nonNull(path.getParent())) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+                for (ScheduledOrder scheduledOrder : scheduledOrders) {
+                    writer.write(objectMapper.writeValueAsString(scheduledOrder));
+                    writer.newLine();
+                }
+            }
+            log.info("Recorded {} orders to {}", scheduledOrders.size(), path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not record orders to " + path, e);
+        }
+    }
+
+    private ScheduledOrder parse(String line) {
+        try {
+            return objectMapper.readValue(line, ScheduledOrder.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid recorded order: " + line, e);
+        }
+    }
+}
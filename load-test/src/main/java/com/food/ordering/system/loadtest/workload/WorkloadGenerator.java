@@ -0,0 +1,63 @@
+package com.food.ordering.system.loadtest.workload;
+
+import com.food.ordering.system.loadtest.config.LoadTestConfigData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkloadGenerator {
+
+    private final LoadTestConfigData loadTestConfigData;
+
+    // Open model: orders are spaced evenly at the configured rate, independent of how fast the system answers
+    public List<ScheduledOrder> generate() {
+        LoadTestConfigData.Mix mix = loadTestConfigData.getMix();
+        Random random = new Random(mix.getSeed());
+        List<UUID> fundedCustomers = LoadTestCustomers.funded(mix.getFundedCustomers());
+        List<UUID> unfundedCustomers = LoadTestCustomers.unfunded(mix.getUnfundedCustomers());
+        double ratePerSecond = loadTestConfigData.getRatePerSecond();
+        long orderCount = (long) Math.ceil(ratePerSecond * loadTestConfigData.getDurationSeconds());
+
+        List<ScheduledOrder> scheduledOrders = LongStream.range(0, orderCount)
+                .mapToObj(i -> new ScheduledOrder((long) (i * 1_000_000 / ratePerSecond),
+                        newOrder(random, mix, fundedCustomers, unfundedCustomers)))
+                .toList();
+        log.info("Generated {} orders at {} orders/sec over {} seconds",
+                scheduledOrders.size(), ratePerSecond, loadTestConfigData.getDurationSeconds());
+        return scheduledOrders;
+    }
+
+    private OrderRequest newOrder(Random random,
+                                  LoadTestConfigData.Mix mix,
+                                  List<UUID> fundedCustomers,
+                                  List<UUID> unfundedCustomers) {
+        List<UUID> customers = !unfundedCustomers.isEmpty() && random.nextDouble() < mix.getPaymentFailureRatio()
+                ? unfundedCustomers
+                : fundedCustomers;
+        UUID customerId = customers.get(random.nextInt(customers.size()));
+
+        List<LoadTestConfigData.Product> products = new ArrayList<>(mix.getProducts());
+        int itemCount = 1 + random.nextInt(Math.min(mix.getMaxItems(), products.size()));
+        List<OrderRequest.Item> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            LoadTestConfigData.Product product = products.remove(random.nextInt(products.size()));
+            int quantity = 1 + random.nextInt(mix.getMaxQuantity());
+            items.add(new OrderRequest.Item(product.getId(), quantity, product.getPrice(),
+                    product.getPrice().multiply(BigDecimal.valueOf(quantity))));
+        }
+        BigDecimal price = items.stream().map(OrderRequest.Item::subTotal).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new OrderRequest(customerId, mix.getRestaurantId(), price, items,
+                new OrderRequest.Address("street_" + random.nextInt(1000), "1000AB", "Amsterdam"));
+    }
+}
@@ -0,0 +1,11 @@
+-- The customer service is not started by the harness, only the projection the order service reads is created
+CREATE SCHEMA IF NOT EXISTS customer;
+
+CREATE TABLE IF NOT EXISTS customer.order_customer_m_view
+(
+    id uuid NOT NULL,
+    username character varying COLLATE pg_catalog."default" NOT NULL,
+    first_name character varying COLLATE pg_catalog."default" NOT NULL,
+    last_name character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT order_customer_m_view_pkey PRIMARY KEY (id)
+);
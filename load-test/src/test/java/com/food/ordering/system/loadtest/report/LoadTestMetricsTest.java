@@ -0,0 +1,79 @@
+package com.food.ordering.system.loadtest.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadTestMetricsTest {
+
+    private static final long START_NANOS = TimeUnit.SECONDS.toNanos(1000);
+
+    private final LoadTestMetrics metrics = new LoadTestMetrics(START_NANOS);
+    private final LoadTestReport loadTestReport = new LoadTestReport();
+
+    @Test
+    public void testPercentilesAreReportedInMillis() {
+        for (int millis = 1; millis <= 100; millis++) {
+            metrics.recordCreated(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertEquals(100, metrics.getCreated());
+        assertTrue(lines(loadTestReport.format(metrics)).contains(
+                String.format("  %-28s %8s %10s %10s %10s %10s", "POST /orders", 100, "50.0", "95.0", "99.0",
+                        "100.0")));
+    }
+
+    @Test
+    public void testOfferedRateAndSagaThroughputUseTheirOwnWindows() {
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordSent(START_NANOS + TimeUnit.MILLISECONDS.toNanos(20L * i));
+        }
+        // Sagas keep completing after the last order was sent, the later completion widens the window
+        long sagaLatencyNanos = TimeUnit.SECONDS.toNanos(1);
+        metrics.recordSagaCompleted("APPROVED", sagaLatencyNanos, START_NANOS + TimeUnit.SECONDS.toNanos(4));
+        metrics.recordSagaCompleted("CANCELLED", sagaLatencyNanos, START_NANOS + TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(TimeUnit.SECONDS.toNanos(2), metrics.getSendWindowNanos());
+        assertEquals(TimeUnit.SECONDS.toNanos(4), metrics.getSagaWindowNanos());
+        assertEquals(2, metrics.getSagasCompleted());
+        assertTrue(lines(loadTestReport.format(metrics)).contains(
+                "Offered rate: 50.0 orders/sec, saga throughput: 0.5 orders/sec"));
+    }
+
+    @Test
+    public void testEmptyWindowReportsZeroThroughput() {
+        assertTrue(lines(loadTestReport.format(metrics)).contains(
+                "Offered rate: 0.0 orders/sec, saga throughput: 0.0 orders/sec"));
+    }
+
+    @Test
+    public void testStagesAndSagasAreReportedInNameOrder() {
+        metrics.recordStage("PENDING", "PAID", TimeUnit.MILLISECONDS.toNanos(10));
+        metrics.recordStage("PAID", "APPROVED", TimeUnit.MILLISECONDS.toNanos(20));
+        metrics.recordSagaCompleted("CANCELLED", TimeUnit.MILLISECONDS.toNanos(30), START_NANOS);
+        metrics.recordSagaCompleted("APPROVED", TimeUnit.MILLISECONDS.toNanos(40), START_NANOS);
+
+        List<String> names = lines(loadTestReport.format(metrics)).stream()
+                .filter(line -> line.startsWith("  stage ") || line.startsWith("  saga until "))
+                .map(line -> line.substring(2, 30).trim())
+                .toList();
+
+        assertEquals(List.of("stage PAID -> APPROVED", "stage PENDING -> PAID", "saga until APPROVED",
+                "saga until CANCELLED"), names);
+    }
+
+    @Test
+    public void testNegativeLatencyIsRecordedAsZero() {
+        metrics.recordCreated(-TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(1, metrics.getCreated());
+        assertEquals(0, metrics.getCreateLatency().getMaxValue());
+    }
+
+    private List<String> lines(String report) {
+        return report.lines().toList();
+    }
+}
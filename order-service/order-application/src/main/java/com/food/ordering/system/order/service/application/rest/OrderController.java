@@ -2,16 +2,21 @@ package com.food.ordering.system.order.service.application.rest;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -35,12 +40,61 @@ public class OrderController {
                 .body(createOrderResponse);
     }
 
+    @PostMapping("/async")
+    public CompletableFuture<ResponseEntity<CreateOrderResponse>> createOrderAsync(
+            @RequestBody CreateOrderCommand createOrderCommand
+    ) {
+        log.info("Create order asynchronously for customer: {} at restaurant: {}",
+                createOrderCommand.getCustomerId(), createOrderCommand.getRestaurantId());
+        return orderApplicationService.createOrderAsync(createOrderCommand)
+                .thenApply(createOrderResponse -> {
+                    log.info("Order created with tracking id: {}", createOrderResponse.getOrderTrackingId());
+                    return ResponseEntity.status(HttpStatus.CREATED).body(createOrderResponse);
+                });
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<List<CreateOrderResult>> createOrders(
+            @RequestBody List<CreateOrderCommand> createOrderCommands
+    ) {
+        log.info("Create {} orders in bulk", createOrderCommands.size());
+        List<CreateOrderResult> createOrderResults = orderApplicationService.createOrders(createOrderCommands);
+        log.info("{} of {} orders created in bulk",
+                createOrderResults.stream().filter(CreateOrderResult::isCreated).count(), createOrderResults.size());
+        return ResponseEntity.ok(createOrderResults);
+    }
+
+    // A matching If-None-Match is answered with 304 by Spring from the ETag of the returned entity
     @GetMapping("/{trackingId}")
-    public TrackOrderResponse getOrderByTrackingId(@PathVariable UUID trackingId) {
+    public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId) {
         TrackOrderResponse trackOrderResponse = orderApplicationService.trackOrder(
                 TrackOrderQuery.builder().orderTrackingId(trackingId).build()
         );
         log.info("Returning order status with tracking id: {}", trackOrderResponse.getOrderTrackingId());
-        return trackOrderResponse;
+        return trackOrderResponseEntity(trackOrderResponse);
+    }
+
+    // Long-poll variant: parks until the order differs from the If-None-Match version or the await timeout expires
+    @GetMapping("/{trackingId}/await")
+    public CompletableFuture<ResponseEntity<TrackOrderResponse>> awaitOrderByTrackingId(
+            @PathVariable UUID trackingId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return orderApplicationService.awaitOrderTracking(
+                TrackOrderQuery.builder().orderTrackingId(trackingId).build(),
+                trackOrderResponse -> Objects.nonNull(ifNoneMatch) && ifNoneMatch.contains(eTag(trackOrderResponse))
+        ).thenApply(this::trackOrderResponseEntity);
+    }
+
+    private ResponseEntity<TrackOrderResponse> trackOrderResponseEntity(TrackOrderResponse trackOrderResponse) {
+        return ResponseEntity.ok()
+                .eTag(eTag(trackOrderResponse))
+                .body(trackOrderResponse);
+    }
+
+    // Failure messages only ever change together with the status, the hash just keeps the tag exact
+    private String eTag(TrackOrderResponse trackOrderResponse) {
+        return "\"" + trackOrderResponse.getOrderStatus().name() + "-"
+                + Integer.toHexString(Objects.hashCode(trackOrderResponse.getFailureMessage())) + "\"";
     }
 }
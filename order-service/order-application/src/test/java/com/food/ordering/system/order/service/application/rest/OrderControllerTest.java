@@ -0,0 +1,99 @@
+package com.food.ordering.system.order.service.application.rest;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class OrderControllerTest {
+
+    private final UUID TRACKING_ID = UUID.fromString("0e1c5a8a-5a38-4d4f-8f1f-5c3b4d3a1a11");
+
+    private final OrderApplicationService orderApplicationService = mock(OrderApplicationService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new OrderController(orderApplicationService))
+            .build();
+
+    @Test
+    public void testTrackingIsReturnedWithETag() throws Exception {
+        when(orderApplicationService.trackOrder(any())).thenReturn(response(OrderStatus.PENDING));
+
+        mockMvc.perform(get("/orders/{trackingId}", TRACKING_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testMatchingIfNoneMatchIsAnsweredWithNotModified() throws Exception {
+        when(orderApplicationService.trackOrder(any())).thenReturn(response(OrderStatus.PENDING));
+        String eTag = eTag();
+
+        mockMvc.perform(get("/orders/{trackingId}", TRACKING_ID).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testChangedStatusIsReturnedWithNewETag() throws Exception {
+        when(orderApplicationService.trackOrder(any()))
+                .thenReturn(response(OrderStatus.PENDING))
+                .thenReturn(response(OrderStatus.PAID));
+        String eTag = eTag();
+
+        MvcResult mvcResult = mockMvc.perform(get("/orders/{trackingId}", TRACKING_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertNotEquals(eTag, mvcResult.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testAwaitTreatsIfNoneMatchVersionAsKnown() throws Exception {
+        when(orderApplicationService.trackOrder(any())).thenReturn(response(OrderStatus.PENDING));
+        String eTag = eTag();
+        when(orderApplicationService.awaitOrderTracking(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(response(OrderStatus.PAID)));
+
+        MvcResult mvcResult = mockMvc.perform(get("/orders/{trackingId}/await", TRACKING_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+
+        verify(orderApplicationService).awaitOrderTracking(any(), argThat((Predicate<TrackOrderResponse> known) ->
+                known.test(response(OrderStatus.PENDING)) && !known.test(response(OrderStatus.PAID))));
+    }
+
+    private String eTag() throws Exception {
+        return mockMvc.perform(get("/orders/{trackingId}", TRACKING_ID))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+
+    private TrackOrderResponse response(OrderStatus orderStatus) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(TRACKING_ID)
+                .orderStatus(orderStatus)
+                .failureMessage(List.of())
+                .build();
+    }
+}
@@ -21,6 +21,37 @@ CREATE TABLE "order".orders
     CONSTRAINT orders_pkey PRIMARY KEY (id)
 );
 
+CREATE UNIQUE INDEX orders_tracking_id_idx ON "order".orders (tracking_id);
+
+DROP TABLE IF EXISTS "order".order_tracking CASCADE;
+
+CREATE TABLE "order".order_tracking
+(
+    tracking_id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    order_status order_status NOT NULL,
+    failure_messages character varying COLLATE pg_catalog."default",
+    CONSTRAINT order_tracking_pkey PRIMARY KEY (tracking_id)
+);
+
+DROP function IF EXISTS "order".notify_order_tracking_change;
+
+CREATE OR replace function "order".notify_order_tracking_change()
+    returns trigger
+AS '
+BEGIN
+    PERFORM pg_notify(''order_tracking'', NEW.tracking_id::text);
+    return null;
+END;
+'  LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS notify_order_tracking_change ON "order".order_tracking;
+
+CREATE trigger notify_order_tracking_change
+    after INSERT OR UPDATE
+    ON "order".order_tracking FOR each row
+EXECUTE PROCEDURE "order".notify_order_tracking_change();
+
 DROP TABLE IF EXISTS "order".order_items CASCADE;
 
 CREATE TABLE "order".order_items
@@ -61,7 +92,7 @@ ALTER TABLE "order".order_address
     NOT VALID;
 
 DROP TYPE IF EXISTS saga_status;
-CREATE TYPE saga_status AS ENUM ('STARTED', 'FAILED', 'SUCCEEDED', 'PROCESSING', 'COMPENSATING', 'COMPENSATED');
+CREATE TYPE saga_status AS ENUM ('START', 'FAIL', 'SUCCEEDED', 'PROCESSING', 'COMPENSATING', 'COMPENSATED');
 
 DROP TYPE IF EXISTS outbox_status;
 CREATE TYPE outbox_status AS ENUM ('STARTED', 'COMPLETED', 'FAILED');
@@ -73,6 +104,7 @@ CREATE TABLE "order".payment_outbox
     saga_id uuid NOT NULL,
     created_at TIMESTAMP WITH TIME ZONE NOT NULL,
     processed_at TIMESTAMP WITH TIME ZONE,
+    claimed_at TIMESTAMP WITH TIME ZONE,
     type character varying COLLATE pg_catalog."default" NOT NULL,
     payload jsonb NOT NULL,
     outbox_status outbox_status NOT NULL,
@@ -90,6 +122,10 @@ CREATE UNIQUE INDEX "payment_outbox_saga_id"
    ON "order".payment_outbox
    (type, saga_id, saga_status);
 
+CREATE INDEX "payment_outbox_processed_at"
+    ON "order".payment_outbox
+        (type, outbox_status, processed_at);
+
 DROP TABLE IF EXISTS "order".restaurant_approval_outbox CASCADE;
 CREATE TABLE "order".restaurant_approval_outbox
 (
@@ -112,4 +148,33 @@ CREATE INDEX "restaurant_approval_outbox_saga_status"
 
 CREATE UNIQUE INDEX "restaurant_approval_outbox_saga_id"
    ON "order".restaurant_approval_outbox
-   (type, saga_id, saga_status);
\ No newline at end of file
+   (type, saga_id, saga_status);
+
+CREATE INDEX "restaurant_approval_outbox_processed_at"
+    ON "order".restaurant_approval_outbox
+        (type, outbox_status, processed_at);
+
+DROP function IF EXISTS "order".notify_outbox_insert;
+
+CREATE OR replace function "order".notify_outbox_insert()
+    returns trigger
+AS '
+BEGIN
+    PERFORM pg_notify(''order_outbox'', TG_TABLE_NAME);
+    return null;
+END;
+'  LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS notify_payment_outbox_insert ON "order".payment_outbox;
+
+CREATE trigger notify_payment_outbox_insert
+    after INSERT
+    ON "order".payment_outbox FOR each statement
+EXECUTE PROCEDURE "order".notify_outbox_insert();
+
+DROP trigger IF EXISTS notify_restaurant_approval_outbox_insert ON "order".restaurant_approval_outbox;
+
+CREATE trigger notify_restaurant_approval_outbox_insert
+    after INSERT
+    ON "order".restaurant_approval_outbox FOR each statement
+EXECUTE PROCEDURE "order".notify_outbox_insert();
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.dataaccess.customer.adapter;
 
+import com.food.ordering.system.order.service.dataaccess.customer.cache.CustomerExistenceCache;
 import com.food.ordering.system.order.service.dataaccess.customer.mapper.CustomerDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Customer;
@@ -8,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -15,10 +17,21 @@ import java.util.UUID;
 public class CustomerRepositoryImpl implements CustomerRepository {
     private final CustomerJpaRepository customerJpaRepository;
     private final CustomerDataAccessMapper customerDataAccessMapper;
+    private final CustomerExistenceCache customerExistenceCache;
 
     @Override
     public Optional<Customer> findCustomer(UUID customerId) {
         return customerJpaRepository.findById(customerId)
                 .map(customerDataAccessMapper::customerEntityToCustomer);
     }
+
+    @Override
+    public boolean existsCustomer(UUID customerId) {
+        return customerExistenceCache.exists(customerId);
+    }
+
+    @Override
+    public Set<UUID> findExistingCustomerIds(Set<UUID> customerIds) {
+        return customerExistenceCache.existing(customerIds);
+    }
 }
@@ -0,0 +1,102 @@
+package com.food.ordering.system.order.service.dataaccess.customer.cache;
+
+import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Set of customer ids known to exist. Only positive answers are served from memory; an unknown id always falls back
+ * to the customer projection, so customers created after the last load are never rejected.
+ */
+@Slf4j
+@Component
+public class CustomerExistenceCache {
+
+    private final CustomerJpaRepository customerJpaRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private volatile Set<UUID> customerIds = ConcurrentHashMap.newKeySet();
+
+    public CustomerExistenceCache(CustomerJpaRepository customerJpaRepository,
+                                  OrderServiceConfigData orderServiceConfigData,
+                                  MeterRegistry meterRegistry) {
+        this.customerJpaRepository = customerJpaRepository;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.hitCounter = meterRegistry.counter("customer.existence.cache.gets", "result", "hit");
+        this.missCounter = meterRegistry.counter("customer.existence.cache.gets", "result", "miss");
+        Gauge.builder("customer.existence.cache.size", this, cache -> cache.customerIds.size())
+                .register(meterRegistry);
+    }
+
+    public boolean exists(UUID customerId) {
+        if (customerIds.contains(customerId)) {
+            hitCounter.increment();
+            return true;
+        }
+        missCounter.increment();
+        boolean exists = customerJpaRepository.existsById(customerId);
+        if (exists && customerIds.size() < orderServiceConfigData.getCustomerExistenceCacheMaxSize()) {
+            customerIds.add(customerId);
+        }
+        return exists;
+    }
+
+    public Set<UUID> existing(Set<UUID> customerIds) {
+        Set<UUID> existing = new HashSet<>();
+        Set<UUID> unknown = new HashSet<>();
+        customerIds.forEach(customerId -> (this.customerIds.contains(customerId) ? existing : unknown).add(customerId));
+        hitCounter.increment(existing.size());
+        if (!unknown.isEmpty()) {
+            missCounter.increment(unknown.size());
+            customerJpaRepository.findAllById(unknown).forEach(customerEntity -> {
+                existing.add(customerEntity.getId());
+                if (this.customerIds.size() < orderServiceConfigData.getCustomerExistenceCacheMaxSize()) {
+                    this.customerIds.add(customerEntity.getId());
+                }
+            });
+        }
+        return existing;
+    }
+
+    // Rebuilt in full so that customers removed from the projection are dropped as well
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${order-service.customer-existence-cache-refresh-fixed-rate}",
+            initialDelayString = "${order-service.customer-existence-cache-refresh-fixed-rate}"
+    )
+    public void reload() {
+        Set<UUID> loaded = ConcurrentHashMap.newKeySet();
+        int chunkSize = orderServiceConfigData.getCustomerExistenceCacheLoadChunkSize();
+        int maxSize = orderServiceConfigData.getCustomerExistenceCacheMaxSize();
+        UUID lastId = new UUID(0L, 0L);
+        // A max size of 0 disables the preload, every lookup then goes through the projection
+        while (loaded.size() < maxSize) {
+            int pageSize = Math.min(chunkSize, maxSize - loaded.size());
+            List<UUID> ids = customerJpaRepository.findIdsAfter(lastId, PageRequest.of(0, pageSize));
+            loaded.addAll(ids);
+            if (ids.size() < pageSize) {
+                break;
+            }
+            lastId = ids.getLast();
+        }
+
+        customerIds = loaded;
+        log.info("Loaded {} customer ids into existence cache", loaded.size());
+    }
+}
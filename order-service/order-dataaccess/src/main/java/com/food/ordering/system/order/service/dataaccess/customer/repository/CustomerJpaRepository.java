@@ -1,9 +1,15 @@
 package com.food.ordering.system.order.service.dataaccess.customer.repository;
 
 import com.food.ordering.system.order.service.dataaccess.customer.entity.CustomerEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CustomerJpaRepository extends JpaRepository<CustomerEntity, UUID> {
-}
\ No newline at end of file
+
+    @Query("SELECT c.id FROM CustomerEntity c WHERE c.id > :lastId ORDER BY c.id")
+    List<UUID> findIdsAfter(UUID lastId, Pageable pageable);
+}
@@ -1,7 +1,10 @@
 package com.food.ordering.system.order.service.dataaccess.order.adapter;
 
 import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.OrderStatus;
 import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJdbcRepository;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJdbcRepository.OrderStatusUpdate;
 import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
@@ -9,13 +12,20 @@ import com.food.ordering.system.order.service.domain.vo.TrackingId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static com.food.ordering.system.domain.DomainConstants.FAILURE_MESSAGE_DELIMITER;
 
 @Component
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final OrderJdbcRepository orderJdbcRepository;
     private final OrderDataAccessMapper orderDataAccessMapper;
 
     @Override
@@ -25,15 +35,67 @@ public class OrderRepositoryImpl implements OrderRepository {
         );
     }
 
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        return orderJpaRepository.saveAll(orders.stream().map(orderDataAccessMapper::orderToOrderEntity).toList())
+                .stream()
+                .map(orderDataAccessMapper::orderEntityToOrder)
+                .toList();
+    }
+
+    // New orders skip the merge-time SELECT and per-row inserts of the cascading JPA save
+    @Override
+    public void insert(Order order) {
+        orderJdbcRepository.insertAll(List.of(orderDataAccessMapper.orderToOrderEntity(order)));
+    }
+
+    @Override
+    public void insertAll(List<Order> orders) {
+        orderJdbcRepository.insertAll(orders.stream().map(orderDataAccessMapper::orderToOrderEntity).toList());
+    }
+
+    @Override
+    public boolean updateStatus(OrderId orderId,
+                                OrderStatus expectedStatus,
+                                OrderStatus newStatus,
+                                List<String> failureMessages) {
+        return orderJpaRepository.updateStatus(orderId.getValue(), expectedStatus, newStatus,
+                joinFailureMessages(failureMessages)) == 1;
+    }
+
+    @Override
+    public List<OrderId> updateStatuses(List<Order> orders, Map<OrderId, OrderStatus> expectedStatuses) {
+        int[] rowCounts = orderJdbcRepository.updateStatuses(orders.stream()
+                .map(order -> new OrderStatusUpdate(order.getId().getValue(), expectedStatuses.get(order.getId()),
+                        order.getOrderStatus(), joinFailureMessages(order.getFailureMessages())))
+                .toList());
+        return IntStream.range(0, orders.size())
+                .filter(index -> rowCounts[index] != 1)
+                .mapToObj(index -> orders.get(index).getId())
+                .toList();
+    }
+
     @Override
     public Optional<Order> findById(OrderId orderId) {
         return orderJpaRepository.findById(orderId.getValue())
                 .map(orderDataAccessMapper::orderEntityToOrder);
     }
 
+    @Override
+    public List<Order> findAllById(List<OrderId> orderIds) {
+        return orderJpaRepository.findAllWithAddressAndItemsByIdIn(orderIds.stream().map(OrderId::getValue).toList())
+                .stream()
+                .map(orderDataAccessMapper::orderEntityToOrder)
+                .toList();
+    }
+
     @Override
     public Optional<Order> findByTrackingId(TrackingId trackingId) {
         return orderJpaRepository.findByTrackingId(trackingId.getValue())
                 .map(orderDataAccessMapper::orderEntityToOrder);
     }
+
+    private String joinFailureMessages(List<String> failureMessages) {
+        return Objects.nonNull(failureMessages) ? String.join(FAILURE_MESSAGE_DELIMITER, failureMessages) : "";
+    }
 }
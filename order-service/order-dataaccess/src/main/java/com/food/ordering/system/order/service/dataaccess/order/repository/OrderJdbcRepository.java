@@ -0,0 +1,92 @@
+package com.food.ordering.system.order.service.dataaccess.order.repository;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain JDBC batch inserts for new order aggregates and batched status updates of existing ones. Runs in the
+ * surrounding JPA transaction; with reWriteBatchedInserts the driver folds each insert batch into multi-row INSERT
+ * statements.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+
+    private static final String INSERT_ORDER = "INSERT INTO \"order\".orders " +
+            "(id, customer_id, restaurant_id, tracking_id, price, order_status, failure_messages) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ITEM = "INSERT INTO \"order\".order_items " +
+            "(id, order_id, product_id, price, quantity, sub_total) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ADDRESS = "INSERT INTO \"order\".order_address " +
+            "(id, order_id, street, postal_code, city) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_ORDER_STATUS = "UPDATE \"order\".orders " +
+            "SET order_status = ?, failure_messages = ? " +
+            "WHERE id = ? AND order_status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public void insertAll(List<OrderEntity> orderEntities) {
+        int batchSize = orderServiceConfigData.getOrderInsertBatchSize();
+
+        jdbcTemplate.batchUpdate(INSERT_ORDER, orderEntities, batchSize, (ps, orderEntity) -> {
+            ps.setObject(1, orderEntity.getId());
+            ps.setObject(2, orderEntity.getCustomerId());
+            ps.setObject(3, orderEntity.getRestaurantId());
+            ps.setObject(4, orderEntity.getTrackingId());
+            ps.setBigDecimal(5, orderEntity.getPrice());
+            ps.setString(6, orderEntity.getOrderStatus().name());
+            ps.setString(7, orderEntity.getFailureMessages());
+        });
+
+        List<OrderItemEntity> orderItemEntities = orderEntities.stream()
+                .flatMap(orderEntity -> orderEntity.getItems().stream())
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM, orderItemEntities, batchSize, (ps, orderItemEntity) -> {
+            ps.setLong(1, orderItemEntity.getId());
+            ps.setObject(2, orderItemEntity.getOrder().getId());
+            ps.setObject(3, orderItemEntity.getProductId());
+            ps.setBigDecimal(4, orderItemEntity.getPrice());
+            ps.setInt(5, orderItemEntity.getQuantity());
+            ps.setBigDecimal(6, orderItemEntity.getSubTotal());
+        });
+
+        List<OrderAddressEntity> orderAddressEntities = orderEntities.stream()
+                .map(OrderEntity::getAddress)
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ADDRESS, orderAddressEntities, batchSize, (ps, orderAddressEntity) -> {
+            ps.setObject(1, orderAddressEntity.getId());
+            ps.setObject(2, orderAddressEntity.getOrder().getId());
+            ps.setString(3, orderAddressEntity.getStreet());
+            ps.setString(4, orderAddressEntity.getPostalCode());
+            ps.setString(5, orderAddressEntity.getCity());
+        });
+    }
+
+    // Returns the row count of every update in input order, 0 where the order was no longer in its expected status
+    public int[] updateStatuses(List<OrderStatusUpdate> orderStatusUpdates) {
+        int[][] rowCounts = jdbcTemplate.batchUpdate(UPDATE_ORDER_STATUS, orderStatusUpdates,
+                orderServiceConfigData.getOrderInsertBatchSize(), (ps, orderStatusUpdate) -> {
+                    ps.setString(1, orderStatusUpdate.newStatus().name());
+                    ps.setString(2, orderStatusUpdate.failureMessages());
+                    ps.setObject(3, orderStatusUpdate.id());
+                    ps.setString(4, orderStatusUpdate.expectedStatus().name());
+                });
+        return Arrays.stream(rowCounts).flatMapToInt(Arrays::stream).toArray();
+    }
+
+    public record OrderStatusUpdate(UUID id, OrderStatus expectedStatus, OrderStatus newStatus, String failureMessages) {
+    }
+}
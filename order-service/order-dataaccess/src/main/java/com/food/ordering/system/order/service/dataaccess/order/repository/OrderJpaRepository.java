@@ -1,11 +1,30 @@
 package com.food.ordering.system.order.service.dataaccess.order.repository;
 
+import com.food.ordering.system.domain.vo.OrderStatus;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
   Optional<OrderEntity> findByTrackingId(UUID trackingId);
+
+  // Fetches address and items with the orders, findAllById would load them with two queries per order
+  @Query("SELECT DISTINCT o FROM OrderEntity o LEFT JOIN FETCH o.address LEFT JOIN FETCH o.items " +
+          "WHERE o.id IN :ids")
+  List<OrderEntity> findAllWithAddressAndItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  @Modifying
+  @Query("UPDATE OrderEntity o SET o.orderStatus = :newStatus, o.failureMessages = :failureMessages " +
+          "WHERE o.id = :id AND o.orderStatus = :expectedStatus")
+  int updateStatus(@Param("id") UUID id,
+                   @Param("expectedStatus") OrderStatus expectedStatus,
+                   @Param("newStatus") OrderStatus newStatus,
+                   @Param("failureMessages") String failureMessages);
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.mapper.ApprovalOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.repository.ApprovalOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ApprovalOutboxRepositoryImpl implements ApprovalOutboxRepository {
+
+    private final ApprovalOutboxJpaRepository approvalOutboxJpaRepository;
+    private final ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper;
+
+    @Override
+    public OrderApprovalOutboxMessage save(OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+        return approvalOutboxDataAccessMapper.approvalOutboxEntityToOrderApprovalOutboxMessage(
+                approvalOutboxJpaRepository.save(
+                        approvalOutboxDataAccessMapper.orderApprovalOutboxMessageToOutboxEntity(orderApprovalOutboxMessage)
+                )
+        );
+    }
+
+    @Override
+    public Optional<List<OrderApprovalOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(
+            String type,
+            OutboxStatus outboxStatus,
+            SagaStatus... sagaStatus
+    ) {
+        return approvalOutboxJpaRepository.findByTypeAndOutboxStatusAndSagaStatusIn(
+                        type,
+                        outboxStatus,
+                        Arrays.asList(sagaStatus))
+                .map(approvalOutboxEntities -> approvalOutboxEntities.stream()
+                        .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<OrderApprovalOutboxMessage> findByTypeAndSagaIdAndSagaStatus(
+            String type,
+            UUID sagaId,
+            SagaStatus... sagaStatus
+    ) {
+        return approvalOutboxJpaRepository.findByTypeAndSagaIdAndSagaStatusIn(
+                        type,
+                        sagaId,
+                        Arrays.asList(sagaStatus))
+                .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage);
+    }
+
+    @Override
+    public void deleteByTypeAndOutboxStatusAndSagaStatus(
+            String type,
+            OutboxStatus outboxStatus,
+            SagaStatus... sagaStatus
+    ) {
+        approvalOutboxJpaRepository.deleteByTypeAndOutboxStatusAndSagaStatusIn(
+                type,
+                outboxStatus,
+                Arrays.asList(sagaStatus)
+        );
+    }
+
+    @Override
+    public int deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+            String type,
+            OutboxStatus outboxStatus,
+            ZonedDateTime processedBefore,
+            int chunkSize
+    ) {
+        return approvalOutboxJpaRepository.deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+                type,
+                outboxStatus.name(),
+                processedBefore,
+                chunkSize
+        );
+    }
+
+    @Override
+    public long getTableSizeInBytes() {
+        return approvalOutboxJpaRepository.getTableSizeInBytes();
+    }
+}
@@ -0,0 +1,43 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ApprovalOutboxDataAccessMapper {
+
+    public ApprovalOutboxEntity orderApprovalOutboxMessageToOutboxEntity(
+            OrderApprovalOutboxMessage orderApprovalOutboxMessage
+    ) {
+        return ApprovalOutboxEntity.builder()
+                .id(orderApprovalOutboxMessage.getId())
+                .sagaId(orderApprovalOutboxMessage.getSagaId())
+                .createdAt(orderApprovalOutboxMessage.getCreatedAt())
+                .processedAt(orderApprovalOutboxMessage.getProcessedAt())
+                .type(orderApprovalOutboxMessage.getType())
+                .payload(orderApprovalOutboxMessage.getPayload())
+                .sagaStatus(orderApprovalOutboxMessage.getSagaStatus())
+                .orderStatus(orderApprovalOutboxMessage.getOrderStatus())
+                .outboxStatus(orderApprovalOutboxMessage.getOutboxStatus())
+                .version(orderApprovalOutboxMessage.getVersion())
+                .build();
+    }
+
+    public OrderApprovalOutboxMessage approvalOutboxEntityToOrderApprovalOutboxMessage(
+            ApprovalOutboxEntity approvalOutboxEntity
+    ) {
+        return OrderApprovalOutboxMessage.builder()
+                .id(approvalOutboxEntity.getId())
+                .sagaId(approvalOutboxEntity.getSagaId())
+                .createdAt(approvalOutboxEntity.getCreatedAt())
+                .processedAt(approvalOutboxEntity.getProcessedAt())
+                .type(approvalOutboxEntity.getType())
+                .payload(approvalOutboxEntity.getPayload())
+                .sagaStatus(approvalOutboxEntity.getSagaStatus())
+                .orderStatus(approvalOutboxEntity.getOrderStatus())
+                .outboxStatus(approvalOutboxEntity.getOutboxStatus())
+                .version(approvalOutboxEntity.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.approval.repository;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.approval.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ApprovalOutboxJpaRepository extends JpaRepository<ApprovalOutboxEntity, UUID> {
+
+    Optional<List<ApprovalOutboxEntity>> findByTypeAndOutboxStatusAndSagaStatusIn(
+            String type,
+            OutboxStatus outboxStatus,
+            List<SagaStatus> sagaStatus
+    );
+
+    Optional<ApprovalOutboxEntity> findByTypeAndSagaIdAndSagaStatusIn(
+            String type,
+            UUID sagaId,
+            List<SagaStatus> sagaStatus
+    );
+
+    void deleteByTypeAndOutboxStatusAndSagaStatusIn(
+            String type,
+            OutboxStatus outboxStatus,
+            List<SagaStatus> sagaStatus
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM \"order\".restaurant_approval_outbox WHERE id IN (" +
+            "SELECT id FROM \"order\".restaurant_approval_outbox " +
+            "WHERE type = :type AND outbox_status = :outboxStatus AND processed_at < :processedBefore " +
+            "LIMIT :chunkSize " +
+            "FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+            @Param("type") String type,
+            @Param("outboxStatus") String outboxStatus,
+            @Param("processedBefore") ZonedDateTime processedBefore,
+            @Param("chunkSize") int chunkSize
+    );
+
+    @Query(value = "SELECT pg_total_relation_size('\"order\".restaurant_approval_outbox')", nativeQuery = true)
+    long getTableSizeInBytes();
+}
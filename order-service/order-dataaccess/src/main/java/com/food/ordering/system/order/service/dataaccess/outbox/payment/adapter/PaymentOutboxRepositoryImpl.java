@@ -0,0 +1,133 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper.PaymentOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.repository.PaymentOutboxJdbcRepository;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.repository.PaymentOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
+
+    private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
+    private final PaymentOutboxJdbcRepository paymentOutboxJdbcRepository;
+    private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+
+    @Override
+    public OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        return paymentOutboxDataAccessMapper.paymentOutboxEntityToOrderPaymentOutboxMessage(
+                paymentOutboxJpaRepository.save(
+                        paymentOutboxDataAccessMapper.orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage)
+                )
+        );
+    }
+
+    @Override
+    public void insertAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages) {
+        paymentOutboxJdbcRepository.insertAll(orderPaymentOutboxMessages.stream()
+                .map(paymentOutboxDataAccessMapper::orderPaymentOutboxMessageToOutboxEntity)
+                .toList());
+    }
+
+    @Override
+    public Optional<List<OrderPaymentOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(
+            String type,
+            OutboxStatus outboxStatus,
+            SagaStatus... sagaStatus
+    ) {
+        return paymentOutboxJpaRepository.findByTypeAndOutboxStatusAndSagaStatusIn(
+                        type,
+                        outboxStatus,
+                        Arrays.asList(sagaStatus))
+                .map(paymentOutboxEntities -> paymentOutboxEntities.stream()
+                        .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<OrderPaymentOutboxMessage> findByTypeAndSagaIdAndSagaStatus(
+            String type,
+            UUID sagaId,
+            SagaStatus... sagaStatus
+    ) {
+        return paymentOutboxJpaRepository.findByTypeAndSagaIdAndSagaStatusIn(
+                        type,
+                        sagaId,
+                        Arrays.asList(sagaStatus))
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage);
+    }
+
+    @Override
+    public void deleteByTypeAndOutboxStatusAndSagaStatus(
+            String type,
+            OutboxStatus outboxStatus,
+            SagaStatus... sagaStatus
+    ) {
+        paymentOutboxJpaRepository.deleteByTypeAndOutboxStatusAndSagaStatusIn(
+                type,
+                outboxStatus,
+                Arrays.asList(sagaStatus)
+        );
+    }
+
+    @Override
+    public List<OrderPaymentOutboxMessage> claimByTypeAndOutboxStatusAndSagaStatus(
+            String type,
+            OutboxStatus outboxStatus,
+            int batchSize,
+            ZonedDateTime claimExpiredBefore,
+            SagaStatus... sagaStatus
+    ) {
+        return paymentOutboxJpaRepository.claimByTypeAndOutboxStatusAndSagaStatusIn(
+                        type,
+                        outboxStatus.name(),
+                        Arrays.stream(sagaStatus).map(SagaStatus::name).collect(Collectors.toList()),
+                        claimExpiredBefore,
+                        batchSize)
+                .stream()
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int updateClaimedAtByIds(List<UUID> ids, ZonedDateTime claimedAt) {
+        return paymentOutboxJpaRepository.updateClaimedAtByIdIn(ids, claimedAt);
+    }
+
+    @Override
+    public int updateOutboxStatusByIds(List<UUID> ids, OutboxStatus outboxStatus, ZonedDateTime processedAt) {
+        return paymentOutboxJpaRepository.updateOutboxStatusByIdIn(ids, outboxStatus, processedAt);
+    }
+
+    @Override
+    public int deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+            String type,
+            OutboxStatus outboxStatus,
+            ZonedDateTime processedBefore,
+            int chunkSize
+    ) {
+        return paymentOutboxJpaRepository.deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+                type,
+                outboxStatus.name(),
+                processedBefore,
+                chunkSize
+        );
+    }
+
+    @Override
+    public long getTableSizeInBytes() {
+        return paymentOutboxJpaRepository.getTableSizeInBytes();
+    }
+}
@@ -0,0 +1,43 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentOutboxDataAccessMapper {
+
+    public PaymentOutboxEntity orderPaymentOutboxMessageToOutboxEntity(
+            OrderPaymentOutboxMessage orderPaymentOutboxMessage
+    ) {
+        return PaymentOutboxEntity.builder()
+                .id(orderPaymentOutboxMessage.getId())
+                .sagaId(orderPaymentOutboxMessage.getSagaId())
+                .createdAt(orderPaymentOutboxMessage.getCreatedAt())
+                .processedAt(orderPaymentOutboxMessage.getProcessedAt())
+                .type(orderPaymentOutboxMessage.getType())
+                .payload(orderPaymentOutboxMessage.getPayload())
+                .sagaStatus(orderPaymentOutboxMessage.getSagaStatus())
+                .orderStatus(orderPaymentOutboxMessage.getOrderStatus())
+                .outboxStatus(orderPaymentOutboxMessage.getOutboxStatus())
+                .version(orderPaymentOutboxMessage.getVersion())
+                .build();
+    }
+
+    public OrderPaymentOutboxMessage paymentOutboxEntityToOrderPaymentOutboxMessage(
+            PaymentOutboxEntity paymentOutboxEntity
+    ) {
+        return OrderPaymentOutboxMessage.builder()
+                .id(paymentOutboxEntity.getId())
+                .sagaId(paymentOutboxEntity.getSagaId())
+                .createdAt(paymentOutboxEntity.getCreatedAt())
+                .processedAt(paymentOutboxEntity.getProcessedAt())
+                .type(paymentOutboxEntity.getType())
+                .payload(paymentOutboxEntity.getPayload())
+                .sagaStatus(paymentOutboxEntity.getSagaStatus())
+                .orderStatus(paymentOutboxEntity.getOrderStatus())
+                .outboxStatus(paymentOutboxEntity.getOutboxStatus())
+                .version(paymentOutboxEntity.getVersion())
+                .build();
+    }
+}
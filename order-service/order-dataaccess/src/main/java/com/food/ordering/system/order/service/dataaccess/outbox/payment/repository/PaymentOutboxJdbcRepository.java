@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.repository;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Plain JDBC batch inserts for new payment outbox rows. The ids are assigned, so a JPA save would merge and SELECT
+ * each row before inserting it. Runs in the surrounding JPA transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentOutboxJdbcRepository {
+
+    private static final String INSERT_PAYMENT_OUTBOX = "INSERT INTO \"order\".payment_outbox " +
+            "(id, saga_id, created_at, type, payload, outbox_status, saga_status, order_status, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public void insertAll(List<PaymentOutboxEntity> paymentOutboxEntities) {
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT_OUTBOX, paymentOutboxEntities,
+                orderServiceConfigData.getOrderInsertBatchSize(), (ps, paymentOutboxEntity) -> {
+                    ps.setObject(1, paymentOutboxEntity.getId());
+                    ps.setObject(2, paymentOutboxEntity.getSagaId());
+                    ps.setObject(3, paymentOutboxEntity.getCreatedAt().toOffsetDateTime());
+                    ps.setString(4, paymentOutboxEntity.getType());
+                    ps.setString(5, paymentOutboxEntity.getPayload());
+                    ps.setString(6, paymentOutboxEntity.getOutboxStatus().name());
+                    ps.setString(7, paymentOutboxEntity.getSagaStatus().name());
+                    ps.setString(8, paymentOutboxEntity.getOrderStatus().name());
+                    ps.setInt(9, paymentOutboxEntity.getVersion());
+                });
+    }
+}
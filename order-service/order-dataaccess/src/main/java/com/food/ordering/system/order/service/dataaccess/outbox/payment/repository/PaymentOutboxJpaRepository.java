@@ -0,0 +1,88 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.repository;
+
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PaymentOutboxJpaRepository extends JpaRepository<PaymentOutboxEntity, UUID> {
+
+    Optional<List<PaymentOutboxEntity>> findByTypeAndOutboxStatusAndSagaStatusIn(
+            String type,
+            OutboxStatus outboxStatus,
+            List<SagaStatus> sagaStatus
+    );
+
+    Optional<PaymentOutboxEntity> findByTypeAndSagaIdAndSagaStatusIn(
+            String type,
+            UUID sagaId,
+            List<SagaStatus> sagaStatus
+    );
+
+    void deleteByTypeAndOutboxStatusAndSagaStatusIn(
+            String type,
+            OutboxStatus outboxStatus,
+            List<SagaStatus> sagaStatus
+    );
+
+    // Rows locked by another relay instance are skipped instead of waited on,
+    // so each replica claims a disjoint batch without any coordination.
+    // Rows claimed by a run that is still publishing are skipped until their claim expires.
+    @Query(value = "SELECT * FROM \"order\".payment_outbox " +
+            "WHERE type = :type AND outbox_status = :outboxStatus AND saga_status IN (:sagaStatus) " +
+            "AND (claimed_at IS NULL OR claimed_at < :claimExpiredBefore) " +
+            "ORDER BY created_at " +
+            "LIMIT :batchSize " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PaymentOutboxEntity> claimByTypeAndOutboxStatusAndSagaStatusIn(
+            @Param("type") String type,
+            @Param("outboxStatus") String outboxStatus,
+            @Param("sagaStatus") List<String> sagaStatus,
+            @Param("claimExpiredBefore") ZonedDateTime claimExpiredBefore,
+            @Param("batchSize") int batchSize
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE \"order\".payment_outbox SET claimed_at = :claimedAt WHERE id IN (:ids)",
+            nativeQuery = true)
+    int updateClaimedAtByIdIn(
+            @Param("ids") List<UUID> ids,
+            @Param("claimedAt") ZonedDateTime claimedAt
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentOutboxEntity p " +
+            "SET p.outboxStatus = :outboxStatus, p.processedAt = :processedAt, p.version = p.version + 1 " +
+            "WHERE p.id IN :ids")
+    int updateOutboxStatusByIdIn(
+            @Param("ids") List<UUID> ids,
+            @Param("outboxStatus") OutboxStatus outboxStatus,
+            @Param("processedAt") ZonedDateTime processedAt
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM \"order\".payment_outbox WHERE id IN (" +
+            "SELECT id FROM \"order\".payment_outbox " +
+            "WHERE type = :type AND outbox_status = :outboxStatus AND processed_at < :processedBefore " +
+            "LIMIT :chunkSize " +
+            "FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+            @Param("type") String type,
+            @Param("outboxStatus") String outboxStatus,
+            @Param("processedBefore") ZonedDateTime processedBefore,
+            @Param("chunkSize") int chunkSize
+    );
+
+    @Query(value = "SELECT pg_total_relation_size('\"order\".payment_outbox')", nativeQuery = true)
+    long getTableSizeInBytes();
+}
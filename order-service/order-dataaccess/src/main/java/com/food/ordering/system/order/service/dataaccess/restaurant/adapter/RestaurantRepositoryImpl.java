@@ -1,20 +1,24 @@
 package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
 
 import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
-import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.dataaccess.restaurant.cache.RestaurantCatalogCache;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class RestaurantRepositoryImpl implements RestaurantRepository {
-    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantCatalogCache restaurantCatalogCache;
     private final RestaurantDataAccessMapper restaurantDataAccessMapper;
 
     @Override
@@ -22,9 +26,26 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
         List<UUID> restaurantProducts =
                 restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant);
 
-        return restaurantJpaRepository.findByRestaurantIdAndProductIdIn(
+        return restaurantCatalogCache.findByRestaurantIdAndProductIdIn(
                 restaurant.getId().getValue(),
                 restaurantProducts
         ).map(restaurantDataAccessMapper::restaurantEntitiesToRestaurant);
     }
+
+    @Override
+    public List<Restaurant> findRestaurantsInformation(List<Restaurant> restaurants) {
+        Map<UUID, Set<UUID>> productIdsByRestaurantId = new LinkedHashMap<>();
+        restaurants.forEach(restaurant -> productIdsByRestaurantId
+                .computeIfAbsent(restaurant.getId().getValue(), restaurantId -> new LinkedHashSet<>())
+                .addAll(restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant)));
+        restaurantCatalogCache.prefetch(productIdsByRestaurantId.keySet());
+
+        return productIdsByRestaurantId.entrySet().stream()
+                .map(entry -> restaurantCatalogCache.findByRestaurantIdAndProductIdIn(
+                        entry.getKey(), List.copyOf(entry.getValue())))
+                .flatMap(Optional::stream)
+                .filter(restaurantEntities -> !restaurantEntities.isEmpty())
+                .map(restaurantDataAccessMapper::restaurantEntitiesToRestaurant)
+                .toList();
+    }
 }
@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.cache.OrderTrackingCache;
+import com.food.ordering.system.order.service.dataaccess.tracking.entity.OrderTrackingEntity;
+import com.food.ordering.system.order.service.dataaccess.tracking.mapper.OrderTrackingDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.tracking.repository.OrderTrackingJdbcRepository;
+import com.food.ordering.system.order.service.dataaccess.tracking.repository.OrderTrackingJpaRepository;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.vo.TrackingId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class OrderTrackingRepositoryImpl implements OrderTrackingRepository {
+
+    private final OrderTrackingJpaRepository orderTrackingJpaRepository;
+    private final OrderTrackingJdbcRepository orderTrackingJdbcRepository;
+    private final OrderTrackingDataAccessMapper orderTrackingDataAccessMapper;
+    private final OrderTrackingCache orderTrackingCache;
+
+    @Override
+    public void save(Order order) {
+        OrderTrackingEntity orderTrackingEntity = orderTrackingDataAccessMapper.orderToOrderTrackingEntity(order);
+        orderTrackingJpaRepository.upsert(
+                orderTrackingEntity.getTrackingId(),
+                orderTrackingEntity.getOrderId(),
+                orderTrackingEntity.getOrderStatus().name(),
+                orderTrackingEntity.getFailureMessages());
+        orderTrackingCache.putIfFinalAfterCommit(
+                orderTrackingDataAccessMapper.orderTrackingEntityToTrackOrderResponse(orderTrackingEntity));
+    }
+
+    @Override
+    public void saveAll(List<Order> orders) {
+        List<OrderTrackingEntity> orderTrackingEntities = orders.stream()
+                .map(orderTrackingDataAccessMapper::orderToOrderTrackingEntity)
+                .toList();
+        orderTrackingJdbcRepository.upsertAll(orderTrackingEntities);
+        orderTrackingEntities.forEach(orderTrackingEntity -> orderTrackingCache.putIfFinalAfterCommit(
+                orderTrackingDataAccessMapper.orderTrackingEntityToTrackOrderResponse(orderTrackingEntity)));
+    }
+
+    @Override
+    public Optional<TrackOrderResponse> findByTrackingId(TrackingId trackingId) {
+        Optional<TrackOrderResponse> cached = orderTrackingCache.get(trackingId.getValue());
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<TrackOrderResponse> trackOrderResponse = orderTrackingJpaRepository.findById(trackingId.getValue())
+                .map(orderTrackingDataAccessMapper::orderTrackingEntityToTrackOrderResponse);
+        trackOrderResponse.ifPresent(orderTrackingCache::putIfFinal);
+        return trackOrderResponse;
+    }
+}
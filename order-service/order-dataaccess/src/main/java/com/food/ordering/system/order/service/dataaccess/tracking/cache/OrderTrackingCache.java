@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.cache;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Tracking responses of orders in a final status. Those never change again, so any instance can serve them from
+ * memory without invalidation; orders still in flight are always read from the tracking table.
+ */
+@Component
+public class OrderTrackingCache {
+
+    private final Cache<UUID, TrackOrderResponse> cache;
+
+    public OrderTrackingCache(OrderServiceConfigData orderServiceConfigData, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(orderServiceConfigData.getOrderTrackingCacheMaxSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "order.tracking");
+    }
+
+    public Optional<TrackOrderResponse> get(UUID trackingId) {
+        return Optional.ofNullable(cache.getIfPresent(trackingId));
+    }
+
+    public void putIfFinal(TrackOrderResponse trackOrderResponse) {
+        if (isFinal(trackOrderResponse.getOrderStatus())) {
+            cache.put(trackOrderResponse.getOrderTrackingId(), trackOrderResponse);
+        }
+    }
+
+    // Written only once the status change is committed, a rolled back saga step must not leave a final status behind
+    public void putIfFinalAfterCommit(TrackOrderResponse trackOrderResponse) {
+        if (!isFinal(trackOrderResponse.getOrderStatus())) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putIfFinal(trackOrderResponse);
+                }
+            });
+        } else {
+            putIfFinal(trackOrderResponse);
+        }
+    }
+
+    private boolean isFinal(OrderStatus orderStatus) {
+        return orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.entity.OrderTrackingEntity;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.food.ordering.system.domain.DomainConstants.FAILURE_MESSAGE_DELIMITER;
+
+@Component
+public class OrderTrackingDataAccessMapper {
+
+    public OrderTrackingEntity orderToOrderTrackingEntity(Order order) {
+        return OrderTrackingEntity.builder()
+                .trackingId(order.getTrackingId().getValue())
+                .orderId(order.getId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .failureMessages(Objects.nonNull(order.getFailureMessages()) ?
+                        String.join(FAILURE_MESSAGE_DELIMITER, order.getFailureMessages()) : "")
+                .build();
+    }
+
+    public TrackOrderResponse orderTrackingEntityToTrackOrderResponse(OrderTrackingEntity orderTrackingEntity) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(orderTrackingEntity.getTrackingId())
+                .orderStatus(orderTrackingEntity.getOrderStatus())
+                .failureMessage(Objects.isNull(orderTrackingEntity.getFailureMessages())
+                        || orderTrackingEntity.getFailureMessages().isEmpty() ? new ArrayList<>() :
+                        new ArrayList<>(Arrays.asList(orderTrackingEntity.getFailureMessages()
+                                .split(FAILURE_MESSAGE_DELIMITER))))
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.notify;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderTrackingChangedMessageListener;
+import com.food.ordering.system.postgres.notification.PostgresNotificationHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Forwards committed order_tracking changes of every instance to the tracking requests parked on this one.
+ * Notifications lost while reconnecting only delay those requests until their await timeout.
+ */
+@Component
+public class OrderTrackingNotificationListener implements PostgresNotificationHandler {
+
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final OrderTrackingChangedMessageListener orderTrackingChangedMessageListener;
+
+    public OrderTrackingNotificationListener(OrderServiceConfigData orderServiceConfigData,
+                                             OrderTrackingChangedMessageListener orderTrackingChangedMessageListener) {
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderTrackingChangedMessageListener = orderTrackingChangedMessageListener;
+    }
+
+    @Override
+    public String channel() {
+        return orderServiceConfigData.getOrderTrackingNotifyChannel();
+    }
+
+    @Override
+    public void onNotification(String orderId) {
+        orderTrackingChangedMessageListener.orderTrackingChanged(UUID.fromString(orderId));
+    }
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.repository;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.entity.OrderTrackingEntity;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Batched form of {@link OrderTrackingJpaRepository#upsert}, so a batch of orders costs one round trip per batch
+ * rather than one per order. Runs in the surrounding JPA transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderTrackingJdbcRepository {
+
+    private static final String UPSERT_ORDER_TRACKING = "INSERT INTO \"order\".order_tracking " +
+            "(tracking_id, order_id, order_status, failure_messages) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (tracking_id) DO UPDATE " +
+            "SET order_status = EXCLUDED.order_status, failure_messages = EXCLUDED.failure_messages";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    public void upsertAll(List<OrderTrackingEntity> orderTrackingEntities) {
+        jdbcTemplate.batchUpdate(UPSERT_ORDER_TRACKING, orderTrackingEntities,
+                orderServiceConfigData.getOrderInsertBatchSize(), (ps, orderTrackingEntity) -> {
+                    ps.setObject(1, orderTrackingEntity.getTrackingId());
+                    ps.setObject(2, orderTrackingEntity.getOrderId());
+                    ps.setString(3, orderTrackingEntity.getOrderStatus().name());
+                    ps.setString(4, orderTrackingEntity.getFailureMessages());
+                });
+    }
+}
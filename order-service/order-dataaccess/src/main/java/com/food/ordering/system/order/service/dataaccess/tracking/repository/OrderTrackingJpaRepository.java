@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.dataaccess.tracking.repository;
+
+import com.food.ordering.system.order.service.dataaccess.tracking.entity.OrderTrackingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.UUID;
+
+public interface OrderTrackingJpaRepository extends JpaRepository<OrderTrackingEntity, UUID> {
+
+    // Plain upsert, so a status change does not need to read the row back through merge first
+    @Modifying
+    @Query(value = "INSERT INTO \"order\".order_tracking (tracking_id, order_id, order_status, failure_messages) " +
+            "VALUES (:trackingId, :orderId, :orderStatus, :failureMessages) " +
+            "ON CONFLICT (tracking_id) DO UPDATE " +
+            "SET order_status = EXCLUDED.order_status, failure_messages = EXCLUDED.failure_messages",
+            nativeQuery = true)
+    void upsert(UUID trackingId, UUID orderId, String orderStatus, String failureMessages);
+}
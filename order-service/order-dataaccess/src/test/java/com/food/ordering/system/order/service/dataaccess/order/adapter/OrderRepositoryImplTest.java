@@ -0,0 +1,95 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJdbcRepository;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJdbcRepository.OrderStatusUpdate;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class OrderRepositoryImplTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private OrderRepositoryImpl orderRepository;
+
+    @BeforeEach
+    public void init() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOrderInsertBatchSize(BATCH_SIZE);
+        orderRepository = new OrderRepositoryImpl(mock(OrderJpaRepository.class),
+                new OrderJdbcRepository(jdbcTemplate, orderServiceConfigData), new OrderDataAccessMapper());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdateStatusesGuardsEveryOrderWithItsExpectedStatus() {
+        Order paid = order(OrderStatus.PAID, List.of());
+        Order cancelled = order(OrderStatus.CANCELLED, List.of("Insufficient credit", "Card declined"));
+        batchRowCounts(new int[][]{{1, 1}});
+
+        orderRepository.updateStatuses(List.of(paid, cancelled), Map.of(
+                paid.getId(), OrderStatus.PENDING,
+                cancelled.getId(), OrderStatus.CANCELLING));
+
+        ArgumentCaptor<List<OrderStatusUpdate>> orderStatusUpdates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), orderStatusUpdates.capture(), eq(BATCH_SIZE), any());
+        assertEquals(List.of(
+                new OrderStatusUpdate(paid.getId().getValue(), OrderStatus.PENDING, OrderStatus.PAID, ""),
+                new OrderStatusUpdate(cancelled.getId().getValue(), OrderStatus.CANCELLING, OrderStatus.CANCELLED,
+                        "Insufficient credit,Card declined")
+        ), orderStatusUpdates.getValue());
+    }
+
+    @Test
+    public void testUpdateStatusesReturnsOrdersWhoseGuardFailedAcrossBatches() {
+        List<Order> orders = List.of(order(OrderStatus.PAID, List.of()), order(OrderStatus.PAID, List.of()),
+                order(OrderStatus.PAID, List.of()), order(OrderStatus.PAID, List.of()),
+                order(OrderStatus.PAID, List.of()));
+        batchRowCounts(new int[][]{{1, 0}, {1, 1}, {0}});
+
+        List<OrderId> staleOrderIds = orderRepository.updateStatuses(orders, Map.of());
+
+        assertEquals(List.of(orders.get(1).getId(), orders.get(4).getId()), staleOrderIds);
+    }
+
+    @Test
+    public void testUpdateStatusesReturnsNothingWhenEveryGuardHolds() {
+        List<Order> orders = List.of(order(OrderStatus.PAID, List.of()), order(OrderStatus.PAID, List.of()));
+        batchRowCounts(new int[][]{{1, 1}});
+
+        assertTrue(orderRepository.updateStatuses(orders, Map.of()).isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void batchRowCounts(int[][] rowCounts) {
+        when(jdbcTemplate.batchUpdate(anyString(), any(List.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenReturn(rowCounts);
+    }
+
+    private Order order(OrderStatus orderStatus, List<String> failureMessages) {
+        return Order.builder()
+                .orderId(new OrderId(UUID.randomUUID()))
+                .orderStatus(orderStatus)
+                .failureMessages(failureMessages)
+                .build();
+    }
+}
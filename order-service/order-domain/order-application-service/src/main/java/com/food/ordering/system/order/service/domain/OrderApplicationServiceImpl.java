@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
@@ -10,6 +11,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
 @Slf4j
 @Validated
 @Service
@@ -25,8 +30,24 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
         return orderCreateCommandHandler.createOrder(createOrderCommand);
     }
 
+    @Override
+    public CompletableFuture<CreateOrderResponse> createOrderAsync(CreateOrderCommand createOrderCommand) {
+        return orderCreateCommandHandler.createOrderAsync(createOrderCommand);
+    }
+
+    @Override
+    public List<CreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        return orderCreateCommandHandler.createOrders(createOrderCommands);
+    }
+
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return orderTrackCommandHandler.trackOrder(trackOrderQuery);
     }
+
+    @Override
+    public CompletableFuture<TrackOrderResponse> awaitOrderTracking(TrackOrderQuery trackOrderQuery,
+                                                                    Predicate<TrackOrderResponse> known) {
+        return orderTrackCommandHandler.awaitOrderTracking(trackOrderQuery, known);
+    }
 }
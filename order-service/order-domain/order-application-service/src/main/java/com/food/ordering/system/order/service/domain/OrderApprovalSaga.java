@@ -1,6 +1,9 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.domain.event.EmptyEvent;
+import com.food.ordering.system.domain.vo.OrderApprovalStatus;
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.OrderStatus;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
@@ -10,6 +13,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -24,8 +31,9 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse, E
     public EmptyEvent process(RestaurantApprovalResponse approvalResponse) {
         log.info("Approving order with id: {}", approvalResponse.getOrderId());
         Order order = orderSagaHelper.findOrder(approvalResponse.getOrderId());
+        OrderStatus expectedStatus = order.getOrderStatus();
         orderDomainService.approveOrder(order);
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.updateOrderStatus(order, expectedStatus);
         log.info("Order with id: {} is approved", order.getId().getValue());
         return EmptyEvent.INSTANCE;
     }
@@ -35,10 +43,35 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse, E
     public OrderCancelledEvent rollback(RestaurantApprovalResponse approvalResponse) {
         log.info("Cancelling order with id: {}", approvalResponse.getOrderId());
         Order order = orderSagaHelper.findOrder(approvalResponse.getOrderId());
+        OrderStatus expectedStatus = order.getOrderStatus();
         OrderCancelledEvent orderCancelledEvent = orderDomainService.cancelOrderPayment(
                 order, approvalResponse.getFailureMessages(), orderCancelledPaymentRequestMessagePublisher);
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.updateOrderStatus(order, expectedStatus);
         log.info("Order with id: {} is cancelled", order.getId().getValue());
         return orderCancelledEvent;
     }
+
+    @Transactional
+    public List<OrderCancelledEvent> processBatch(List<RestaurantApprovalResponse> approvalResponses) {
+        log.info("Processing batch of {} approval responses", approvalResponses.size());
+        Map<String, Order> orders = orderSagaHelper.findOrders(
+                approvalResponses.stream().map(RestaurantApprovalResponse::getOrderId).toList());
+        Map<OrderId, OrderStatus> expectedStatuses = orderSagaHelper.orderStatuses(orders.values());
+
+        List<OrderCancelledEvent> orderCancelledEvents = new ArrayList<>();
+        approvalResponses.forEach(approvalResponse -> {
+            Order order = orders.get(approvalResponse.getOrderId());
+            if (OrderApprovalStatus.APPROVED == approvalResponse.getOrderApprovalStatus()) {
+                orderDomainService.approveOrder(order);
+            } else {
+                orderCancelledEvents.add(orderDomainService.cancelOrderPayment(
+                        order, approvalResponse.getFailureMessages(), orderCancelledPaymentRequestMessagePublisher));
+            }
+        });
+
+        orderSagaHelper.updateOrderStatuses(orders.values(), expectedStatuses);
+        log.info("Batch of {} approval responses is processed, {} orders are cancelled",
+                approvalResponses.size(), orderCancelledEvents.size());
+        return orderCancelledEvents;
+    }
 }
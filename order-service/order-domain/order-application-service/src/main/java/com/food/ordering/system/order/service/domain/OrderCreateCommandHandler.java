@@ -2,12 +2,30 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -17,11 +35,121 @@ public class OrderCreateCommandHandler {
 
     private final OrderDataMapper orderDataMapper;
 
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    private final Validator validator;
+
+    private final ExecutorService createOrderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
         OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand);
         log.info("Order is created with id {}", orderCreatedEvent.getOrder().getId().getValue());
-        orderCreatedEvent.fire();;
         return orderDataMapper.orderToCreateOrderResponse(
                 orderCreatedEvent.getOrder(), "Order Created Successfully!");
     }
+
+    public CompletableFuture<CreateOrderResponse> createOrderAsync(CreateOrderCommand createOrderCommand) {
+        CompletableFuture<Void> customerCheck = CompletableFuture.runAsync(
+                () -> orderCreateHelper.checkCustomer(createOrderCommand.getCustomerId()), createOrderExecutor);
+        CompletableFuture<Restaurant> restaurantLookup = CompletableFuture.supplyAsync(
+                () -> orderCreateHelper.checkRestaurant(createOrderCommand), createOrderExecutor);
+
+        return customerCheck.thenCombine(restaurantLookup, (ignored, restaurant) -> restaurant)
+                .thenApplyAsync(restaurant -> orderCreateHelper.persistOrderWithOutbox(createOrderCommand, restaurant),
+                        createOrderExecutor)
+                .thenApply(orderCreatedEvent -> {
+                    log.info("Order is created with id {}", orderCreatedEvent.getOrder().getId().getValue());
+                    return orderDataMapper.orderToCreateOrderResponse(
+                            orderCreatedEvent.getOrder(), "Order Created Successfully!");
+                });
+    }
+
+    public List<CreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        if (createOrderCommands.size() > orderServiceConfigData.getBulkCreateMaxOrders()) {
+            throw new OrderDomainException("At most " + orderServiceConfigData.getBulkCreateMaxOrders()
+                    + " orders can be created at once, got " + createOrderCommands.size());
+        }
+        // Constraints are checked per command rather than on the list, so one invalid command only rejects itself
+        List<String> constraintViolations = createOrderCommands.stream().map(this::constraintViolations).toList();
+        List<CreateOrderCommand> constraintValidCommands = IntStream.range(0, createOrderCommands.size())
+                .filter(index -> Objects.isNull(constraintViolations.get(index)))
+                .mapToObj(createOrderCommands::get)
+                .toList();
+        Set<UUID> existingCustomerIds = orderCreateHelper.findExistingCustomerIds(constraintValidCommands);
+        Map<UUID, Restaurant> restaurants = orderCreateHelper.findRestaurants(constraintValidCommands);
+
+        List<ValidatedOrder> validatedOrders = IntStream.range(0, createOrderCommands.size())
+                .parallel()
+                .mapToObj(index -> Objects.nonNull(constraintViolations.get(index))
+                        ? rejectOrder(index, constraintViolations.get(index))
+                        : validateOrder(index, createOrderCommands.get(index), existingCustomerIds, restaurants))
+                .toList();
+
+        List<OrderCreatedEvent> orderCreatedEvents = validatedOrders.stream()
+                .map(ValidatedOrder::orderCreatedEvent)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!orderCreatedEvents.isEmpty()) {
+            orderCreateHelper.persistOrdersWithOutbox(orderCreatedEvents);
+        }
+        log.info("{} of {} orders are created", orderCreatedEvents.size(), createOrderCommands.size());
+
+        return validatedOrders.stream().map(this::validatedOrderToCreateOrderResult).toList();
+    }
+
+    private ValidatedOrder validateOrder(int index,
+                                         CreateOrderCommand createOrderCommand,
+                                         Set<UUID> existingCustomerIds,
+                                         Map<UUID, Restaurant> restaurants) {
+        try {
+            return new ValidatedOrder(index,
+                    orderCreateHelper.validateOrder(createOrderCommand, existingCustomerIds, restaurants), null);
+        } catch (OrderDomainException e) {
+            return rejectOrder(index, e.getMessage());
+        }
+    }
+
+    private ValidatedOrder rejectOrder(int index, String failureMessage) {
+        log.warn("Order at index {} of bulk request is rejected: {}", index, failureMessage);
+        return new ValidatedOrder(index, null, failureMessage);
+    }
+
+    private String constraintViolations(CreateOrderCommand createOrderCommand) {
+        if (Objects.isNull(createOrderCommand)) {
+            return "Order must not be null";
+        }
+        Set<ConstraintViolation<CreateOrderCommand>> violations = validator.validate(createOrderCommand);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private CreateOrderResult validatedOrderToCreateOrderResult(ValidatedOrder validatedOrder) {
+        if (Objects.isNull(validatedOrder.orderCreatedEvent())) {
+            return CreateOrderResult.builder()
+                    .index(validatedOrder.index())
+                    .created(false)
+                    .message(validatedOrder.failureMessage())
+                    .build();
+        }
+        return CreateOrderResult.builder()
+                .index(validatedOrder.index())
+                .created(true)
+                .orderTrackingId(validatedOrder.orderCreatedEvent().getOrder().getTrackingId().getValue())
+                .orderStatus(validatedOrder.orderCreatedEvent().getOrder().getOrderStatus())
+                .message("Order Created Successfully!")
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        createOrderExecutor.shutdown();
+    }
+
+    private record ValidatedOrder(int index, OrderCreatedEvent orderCreatedEvent, String failureMessage) {
+    }
 }
@@ -1,21 +1,30 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.vo.OrderStatus;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.outbox.OutboxStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -24,26 +33,86 @@ public class OrderCreateHelper {
 
     private final OrderDomainService orderDomainService;
     private final OrderRepository orderRepository;
+    private final OrderTrackingRepository orderTrackingRepository;
     private final CustomerRepository customerRepository;
     private final RestaurantRepository restaurantRepository;
     private final OrderDataMapper orderDataMapper;
     private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+    private final PaymentOutboxHelper paymentOutboxHelper;
+    private final OrderSagaHelper orderSagaHelper;
 
     @Transactional
     public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand) {
         checkCustomer(createOrderCommand.getCustomerId());
         Restaurant restaurant = checkRestaurant(createOrderCommand);
+        return persistOrderWithOutbox(createOrderCommand, restaurant);
+    }
+
+    // The payment request leaves through the outbox relay instead of OrderCreatedEvent.fire(), so the order and its
+    // request are committed or rolled back together
+    @Transactional
+    public OrderCreatedEvent persistOrderWithOutbox(CreateOrderCommand createOrderCommand, Restaurant restaurant) {
         Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
 
         OrderCreatedEvent orderCreatedEvent = orderDomainService
                 .validateAndInitializeOrder(order, restaurant, orderCreatedPaymentRequestMessagePublisher);
 
         saveOrder(order);
-        log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
+        paymentOutboxHelper.savePaymentOutboxMessage(
+                orderDataMapper.orderCreatedEventToOrderPaymentEventPayload(orderCreatedEvent),
+                order.getOrderStatus(),
+                orderSagaHelper.orderStatusToSagaStatus(order.getOrderStatus()),
+                OutboxStatus.STARTED,
+                UUID.randomUUID());
+        log.info("Order is created with id: {} together with its payment outbox message", order.getId().getValue());
         return orderCreatedEvent;
     }
 
-    private Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
+    @Transactional
+    public void persistOrdersWithOutbox(List<OrderCreatedEvent> orderCreatedEvents) {
+        List<Order> orders = orderCreatedEvents.stream().map(OrderCreatedEvent::getOrder).toList();
+        orderRepository.insertAll(orders);
+        orderTrackingRepository.saveAll(orders);
+        // Every validated order is initialized as PENDING
+        paymentOutboxHelper.savePaymentOutboxMessages(
+                orderCreatedEvents.stream().map(orderDataMapper::orderCreatedEventToOrderPaymentEventPayload).toList(),
+                OrderStatus.PENDING,
+                orderSagaHelper.orderStatusToSagaStatus(OrderStatus.PENDING),
+                OutboxStatus.STARTED);
+        log.info("{} orders are created together with their payment outbox messages", orders.size());
+    }
+
+    Set<UUID> findExistingCustomerIds(List<CreateOrderCommand> createOrderCommands) {
+        return customerRepository.findExistingCustomerIds(createOrderCommands.stream()
+                .map(CreateOrderCommand::getCustomerId)
+                .collect(Collectors.toSet()));
+    }
+
+    Map<UUID, Restaurant> findRestaurants(List<CreateOrderCommand> createOrderCommands) {
+        return restaurantRepository.findRestaurantsInformation(createOrderCommands.stream()
+                        .map(orderDataMapper::createOrderCommandToRestaurant)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(restaurant -> restaurant.getId().getValue(), Function.identity()));
+    }
+
+    // Validates against prefetched customers and restaurants only, so it is safe to run for many orders in parallel
+    OrderCreatedEvent validateOrder(CreateOrderCommand createOrderCommand,
+                                    Set<UUID> existingCustomerIds,
+                                    Map<UUID, Restaurant> restaurants) {
+        if (!existingCustomerIds.contains(createOrderCommand.getCustomerId())) {
+            throw new OrderDomainException("Could not find customer with id: " + createOrderCommand.getCustomerId());
+        }
+        Restaurant restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+        if (Objects.isNull(restaurant)) {
+            throw new OrderDomainException("Could not find restaurant with restaurant id: "
+                    + createOrderCommand.getRestaurantId());
+        }
+        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        return orderDomainService.validateAndInitializeOrder(order, restaurant, orderCreatedPaymentRequestMessagePublisher);
+    }
+
+    Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
         Restaurant restaurant = orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
         return restaurantRepository.findRestaurantInformation(restaurant)
                 .orElseThrow(() -> {
@@ -52,21 +121,16 @@ public class OrderCreateHelper {
                 });
     }
 
-    private void checkCustomer(UUID customerId) {
-        customerRepository.findCustomer(customerId)
-                .orElseThrow(() -> {
-                    log.warn("Could not find customer with customer id: {}", customerId);
-                    return new OrderDomainException("Could not find customer with id: " + customerId);
-                });
+    void checkCustomer(UUID customerId) {
+        if (!customerRepository.existsCustomer(customerId)) {
+            log.warn("Could not find customer with customer id: {}", customerId);
+            throw new OrderDomainException("Could not find customer with id: " + customerId);
+        }
     }
 
-    private Order saveOrder(Order order) {
-        Order savedOrder = orderRepository.save(order);
-        if (Objects.isNull(savedOrder)) {
-            log.error("Could not save order!");
-            throw new OrderDomainException("Could not save order");
-        }
-        log.info("Order is saved with id: {}", savedOrder.getId().getValue());
-        return savedOrder;
+    private void saveOrder(Order order) {
+        orderRepository.insert(order);
+        orderTrackingRepository.save(order);
+        log.info("Order is saved with id: {}", order.getId().getValue());
     }
 }
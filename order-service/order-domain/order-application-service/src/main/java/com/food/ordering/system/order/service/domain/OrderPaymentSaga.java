@@ -1,6 +1,9 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.domain.event.EmptyEvent;
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.domain.vo.PaymentStatus;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
@@ -10,6 +13,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -24,8 +31,9 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse, OrderPaidEven
     public OrderPaidEvent process(PaymentResponse paymentResponse) {
         log.info("Completing payment for order with id: {}", paymentResponse.getOrderId());
         Order order = orderSagaHelper.findOrder(paymentResponse.getOrderId());
+        OrderStatus expectedStatus = order.getOrderStatus();
         OrderPaidEvent orderPaidEvent = orderDomainService.payOrder(order, orderPaidRestaurantRequestMessagePublisher);
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.updateOrderStatus(order, expectedStatus);
         log.info("Order with id: {} is paid", order.getId().getValue());
         return orderPaidEvent;
     }
@@ -35,9 +43,33 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse, OrderPaidEven
     public EmptyEvent rollback(PaymentResponse paymentResponse) {
         log.info("Cancelling payment for order with id: {}", paymentResponse.getOrderId());
         Order order = orderSagaHelper.findOrder(paymentResponse.getOrderId());
+        OrderStatus expectedStatus = order.getOrderStatus();
         orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.updateOrderStatus(order, expectedStatus);
         log.info("Order with id: {} is cancelled", order.getId().getValue());
         return EmptyEvent.INSTANCE;
     }
+
+    @Transactional
+    public List<OrderPaidEvent> processBatch(List<PaymentResponse> paymentResponses) {
+        log.info("Processing batch of {} payment responses", paymentResponses.size());
+        Map<String, Order> orders = orderSagaHelper.findOrders(
+                paymentResponses.stream().map(PaymentResponse::getOrderId).toList());
+        Map<OrderId, OrderStatus> expectedStatuses = orderSagaHelper.orderStatuses(orders.values());
+
+        List<OrderPaidEvent> orderPaidEvents = new ArrayList<>();
+        paymentResponses.forEach(paymentResponse -> {
+            Order order = orders.get(paymentResponse.getOrderId());
+            if (PaymentStatus.COMPLETED == paymentResponse.getPaymentStatus()) {
+                orderPaidEvents.add(orderDomainService.payOrder(order, orderPaidRestaurantRequestMessagePublisher));
+            } else {
+                orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
+            }
+        });
+
+        orderSagaHelper.updateOrderStatuses(orders.values(), expectedStatuses);
+        log.info("Batch of {} payment responses is processed, {} orders are paid",
+                paymentResponses.size(), orderPaidEvents.size());
+        return orderPaidEvents;
+    }
 }
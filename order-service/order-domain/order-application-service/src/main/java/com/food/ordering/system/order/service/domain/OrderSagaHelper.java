@@ -3,14 +3,21 @@ package com.food.ordering.system.order.service.domain;
 import com.food.ordering.system.domain.vo.OrderId;
 import com.food.ordering.system.domain.vo.OrderStatus;
 import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
 import com.food.ordering.system.saga.SagaStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -18,6 +25,7 @@ import java.util.UUID;
 public class OrderSagaHelper {
 
     private final OrderRepository orderRepository;
+    private final OrderTrackingRepository orderTrackingRepository;
 
     Order findOrder(String orderId) {
         return orderRepository.findById(new OrderId(UUID.fromString(orderId)))
@@ -27,8 +35,51 @@ public class OrderSagaHelper {
                 });
     }
 
-    void saveOrder(Order order) {
-        orderRepository.save(order);
+    Map<String, Order> findOrders(Collection<String> orderIds) {
+        List<OrderId> distinctOrderIds = orderIds.stream()
+                .distinct()
+                .map(orderId -> new OrderId(UUID.fromString(orderId)))
+                .toList();
+        Map<String, Order> orders = orderRepository.findAllById(distinctOrderIds).stream()
+                .collect(Collectors.toMap(order -> order.getId().getValue().toString(), Function.identity()));
+        if (orders.size() != distinctOrderIds.size()) {
+            List<String> missingOrderIds = orderIds.stream().filter(orderId -> !orders.containsKey(orderId)).toList();
+            log.error("Could not find orders with ids: {}", missingOrderIds);
+            throw new OrderNotFoundException("Could not find orders with ids: " + missingOrderIds);
+        }
+        return orders;
+    }
+
+    Map<OrderId, OrderStatus> orderStatuses(Collection<Order> orders) {
+        return orders.stream().collect(Collectors.toMap(Order::getId, Order::getOrderStatus));
+    }
+
+    // Saga steps only change status and failure messages, so a single guarded UPDATE replaces merging the whole
+    // order graph. A concurrent transition of the same order makes the guard fail and rolls the step back.
+    void updateOrderStatus(Order order, OrderStatus expectedStatus) {
+        compareAndSetOrderStatus(order, expectedStatus);
+        orderTrackingRepository.save(order);
+    }
+
+    void updateOrderStatuses(Collection<Order> orders, Map<OrderId, OrderStatus> expectedStatuses) {
+        List<Order> orderList = List.copyOf(orders);
+        List<OrderId> staleOrderIds = orderRepository.updateStatuses(orderList, expectedStatuses);
+        if (!staleOrderIds.isEmpty()) {
+            List<UUID> staleIds = staleOrderIds.stream().map(OrderId::getValue).toList();
+            log.warn("Orders with ids: {} are no longer in their expected status, rolling the batch back", staleIds);
+            throw new OrderDomainException("Orders with ids: " + staleIds + " are no longer in their expected status");
+        }
+        orderTrackingRepository.saveAll(orderList);
+    }
+
+    private void compareAndSetOrderStatus(Order order, OrderStatus expectedStatus) {
+        if (!orderRepository.updateStatus(order.getId(), expectedStatus, order.getOrderStatus(),
+                order.getFailureMessages())) {
+            log.warn("Order with id: {} is no longer in status {}, could not move it to {}",
+                    order.getId().getValue(), expectedStatus, order.getOrderStatus());
+            throw new OrderDomainException("Order with id: " + order.getId().getValue() +
+                    " is no longer in status " + expectedStatus);
+        }
     }
 
     SagaStatus orderStatusToSagaStatus(OrderStatus orderStatus) {
@@ -1,34 +1,55 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
-import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderTrackingChangedMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
 import com.food.ordering.system.order.service.domain.vo.TrackingId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderTrackCommandHandler {
 
-    private final OrderDataMapper orderDataMapper;
+    private final OrderTrackingRepository orderTrackingRepository;
+
+    private final OrderTrackingChangedMessageListener orderTrackingChangedMessageListener;
 
-    private final OrderRepository orderRepository;
+    private final OrderServiceConfigData orderServiceConfigData;
 
-    @Transactional(readOnly = true)
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-        Order order = orderRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId()))
+        return orderTrackingRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId()))
                 .orElseThrow(() -> {
                     log.warn("Could not find order with tracking id: {}", trackOrderQuery.getOrderTrackingId());
                     return new OrderNotFoundException("Could not find order with tracking id: " + trackOrderQuery.getOrderTrackingId());
                 });
-        return orderDataMapper.orderToTrackOrderResponse(order);
+    }
+
+    public CompletableFuture<TrackOrderResponse> awaitOrderTracking(TrackOrderQuery trackOrderQuery,
+                                                                    Predicate<TrackOrderResponse> known) {
+        // Registered before the read, so a change committed in between still wakes this request
+        CompletableFuture<Void> change = orderTrackingChangedMessageListener.awaitChange(
+                trackOrderQuery.getOrderTrackingId(), orderServiceConfigData.getOrderTrackingAwaitTimeoutMs());
+        TrackOrderResponse trackOrderResponse;
+        try {
+            trackOrderResponse = trackOrder(trackOrderQuery);
+        } catch (RuntimeException e) {
+            change.cancel(false);
+            throw e;
+        }
+        if (!known.test(trackOrderResponse)) {
+            change.cancel(false);
+            return CompletableFuture.completedFuture(trackOrderResponse);
+        }
+        return change.thenApply(ignored -> trackOrder(trackOrderQuery));
     }
 
 }
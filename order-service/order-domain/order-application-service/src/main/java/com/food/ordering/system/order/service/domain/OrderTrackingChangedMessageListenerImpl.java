@@ -0,0 +1,60 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderTrackingChangedMessageListener;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parks tracking requests until the tracking row of their order changes. Waiters are completed on virtual threads,
+ * so the follow-up read never runs on the notification listener or the timeout timer.
+ */
+@Slf4j
+@Service
+public class OrderTrackingChangedMessageListenerImpl implements OrderTrackingChangedMessageListener {
+
+    private final Map<UUID, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+    private final ExecutorService completionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public void orderTrackingChanged(UUID trackingId) {
+        Set<CompletableFuture<Void>> changes = waiters.remove(trackingId);
+        if (Objects.nonNull(changes)) {
+            log.debug("Waking {} tracking requests for tracking id: {}", changes.size(), trackingId);
+            changes.forEach(change -> completionExecutor.execute(() -> change.complete(null)));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> awaitChange(UUID trackingId, long timeoutMs) {
+        CompletableFuture<Void> change = new CompletableFuture<>();
+        waiters.compute(trackingId, (id, changes) -> {
+            Set<CompletableFuture<Void>> trackingChanges = Objects.isNull(changes)
+                    ? ConcurrentHashMap.newKeySet() : changes;
+            trackingChanges.add(change);
+            return trackingChanges;
+        });
+        change.whenComplete((ignored, throwable) -> waiters.computeIfPresent(trackingId, (id, changes) -> {
+            changes.remove(change);
+            return changes.isEmpty() ? null : changes;
+        }));
+        CompletableFuture.delayedExecutor(timeoutMs, TimeUnit.MILLISECONDS, completionExecutor)
+                .execute(() -> change.complete(null));
+        return change;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        completionExecutor.shutdown();
+    }
+}
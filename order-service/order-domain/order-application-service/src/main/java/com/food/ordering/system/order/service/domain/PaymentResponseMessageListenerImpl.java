@@ -3,11 +3,15 @@ package com.food.ordering.system.order.service.domain;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.saga.SagaStepObservation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 import static com.food.ordering.system.domain.DomainConstants.FAILURE_MESSAGE_DELIMITER;
 
 @Slf4j
@@ -16,21 +20,45 @@ import static com.food.ordering.system.domain.DomainConstants.FAILURE_MESSAGE_DE
 @RequiredArgsConstructor
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
 
+    private static final String SAGA_NAME = "payment";
+
     private final OrderPaymentSaga orderPaymentSaga;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
-        OrderPaidEvent orderPaidEvent = orderPaymentSaga.process(paymentResponse);
+        OrderPaidEvent orderPaidEvent = SagaStepObservation.of(observationRegistry, SAGA_NAME, "process",
+                        paymentResponse.getOrderId())
+                .observe(() -> orderPaymentSaga.process(paymentResponse));
         log.info("Publishing order paid event for order id: {}", paymentResponse.getOrderId());
-        orderPaidEvent.fire();
+        publish(orderPaidEvent);
     }
 
     @Override
     public void paymentCanceled(PaymentResponse paymentResponse) {
-        orderPaymentSaga.rollback(paymentResponse);
+        SagaStepObservation.of(observationRegistry, SAGA_NAME, "rollback", paymentResponse.getOrderId())
+                .observe(() -> orderPaymentSaga.rollback(paymentResponse));
         log.info("Order with id: {} is rolled back with failure messages: {}",
                 paymentResponse.getOrderId(),
                 String.join(FAILURE_MESSAGE_DELIMITER, paymentResponse.getFailureMessages())
         );
     }
+
+    @Override
+    public void paymentResponsesReceived(List<PaymentResponse> paymentResponses) {
+        List<OrderPaidEvent> orderPaidEvents = SagaStepObservation.of(observationRegistry, SAGA_NAME, "batch")
+                .observe(() -> orderPaymentSaga.processBatch(paymentResponses));
+        log.info("Publishing {} order paid events", orderPaidEvents.size());
+        orderPaidEvents.forEach(this::publish);
+    }
+
+    // The saga step is already committed, a failed publish must not send its response back to be processed again
+    private void publish(OrderPaidEvent orderPaidEvent) {
+        try {
+            orderPaidEvent.fire();
+        } catch (RuntimeException e) {
+            log.error("Could not publish order paid event for order id: {}",
+                    orderPaidEvent.getOrder().getId().getValue(), e);
+        }
+    }
 }
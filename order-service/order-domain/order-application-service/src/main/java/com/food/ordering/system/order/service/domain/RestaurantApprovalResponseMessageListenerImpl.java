@@ -3,29 +3,57 @@ package com.food.ordering.system.order.service.domain;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.saga.SagaStepObservation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Validated
 @Service
 @RequiredArgsConstructor
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
 
+    private static final String SAGA_NAME = "approval";
+
     private final OrderApprovalSaga orderApprovalSaga;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
-        orderApprovalSaga.process(restaurantApprovalResponse);
+        SagaStepObservation.of(observationRegistry, SAGA_NAME, "process", restaurantApprovalResponse.getOrderId())
+                .observe(() -> orderApprovalSaga.process(restaurantApprovalResponse));
         log.info("Order is approved with id: {}", restaurantApprovalResponse.getOrderId());
     }
 
     @Override
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
-        OrderCancelledEvent orderCancelledEvent = orderApprovalSaga.rollback(restaurantApprovalResponse);
+        OrderCancelledEvent orderCancelledEvent = SagaStepObservation.of(observationRegistry, SAGA_NAME, "rollback",
+                        restaurantApprovalResponse.getOrderId())
+                .observe(() -> orderApprovalSaga.rollback(restaurantApprovalResponse));
         log.info("Order is cancelled with id: {}", restaurantApprovalResponse.getOrderId());
-        orderCancelledEvent.fire();
+        publish(orderCancelledEvent);
+    }
+
+    @Override
+    public void approvalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        List<OrderCancelledEvent> orderCancelledEvents = SagaStepObservation.of(observationRegistry, SAGA_NAME, "batch")
+                .observe(() -> orderApprovalSaga.processBatch(restaurantApprovalResponses));
+        log.info("Publishing {} order cancelled events", orderCancelledEvents.size());
+        orderCancelledEvents.forEach(this::publish);
+    }
+
+    // The saga step is already committed, a failed publish must not send its response back to be processed again
+    private void publish(OrderCancelledEvent orderCancelledEvent) {
+        try {
+            orderCancelledEvent.fire();
+        } catch (RuntimeException e) {
+            log.error("Could not publish order cancelled event for order id: {}",
+                    orderCancelledEvent.getOrder().getId().getValue(), e);
+        }
     }
 }
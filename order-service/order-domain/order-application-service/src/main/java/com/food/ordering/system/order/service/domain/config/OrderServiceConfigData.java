@@ -12,4 +12,17 @@ public class OrderServiceConfigData {
     private String paymentResponseTopicName;
     private String restaurantApprovalRequestTopicName;
     private String restaurantApprovalResponseTopicName;
+    private Integer outboxSchedulerBatchSize;
+    private Long outboxSchedulerPublishTimeoutMs;
+    private Long outboxSchedulerClaimTimeoutMs;
+    private Integer outboxCleanerChunkSize;
+    private Integer outboxCleanerMaxChunksPerRun;
+    private Long outboxCleanerRetentionMs;
+    private Integer customerExistenceCacheMaxSize;
+    private Integer customerExistenceCacheLoadChunkSize;
+    private Integer bulkCreateMaxOrders;
+    private Integer orderInsertBatchSize;
+    private Integer orderTrackingCacheMaxSize;
+    private Long orderTrackingAwaitTimeoutMs;
+    private String orderTrackingNotifyChannel;
 }
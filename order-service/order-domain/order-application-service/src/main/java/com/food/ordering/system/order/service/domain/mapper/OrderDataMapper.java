@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.domain.mapper;
 
 import com.food.ordering.system.domain.vo.CustomerId;
 import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.PaymentOrderStatus;
 import com.food.ordering.system.domain.vo.ProductId;
 import com.food.ordering.system.domain.vo.RestaurantId;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
@@ -12,6 +13,8 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
 import com.food.ordering.system.order.service.domain.vo.StreetAddress;
 import org.springframework.stereotype.Component;
 
@@ -40,6 +43,16 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public OrderPaymentEventPayload orderCreatedEventToOrderPaymentEventPayload(OrderCreatedEvent orderCreatedEvent) {
+        return OrderPaymentEventPayload.builder()
+                .orderId(orderCreatedEvent.getOrder().getId().getValue().toString())
+                .customerId(orderCreatedEvent.getOrder().getCustomerId().getValue().toString())
+                .price(orderCreatedEvent.getOrder().getPrice().getAmount())
+                .cratedAt(orderCreatedEvent.getCreatedAt())
+                .paymentOrderStatus(PaymentOrderStatus.PENDING.name())
+                .build();
+    }
+
     public CreateOrderResponse orderToCreateOrderResponse(Order order, String message) {
         return CreateOrderResponse.builder()
                 .orderTrackingId(order.getTrackingId().getValue())
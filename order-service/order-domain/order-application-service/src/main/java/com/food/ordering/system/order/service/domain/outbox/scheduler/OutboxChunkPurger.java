@@ -0,0 +1,75 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static com.food.ordering.system.domain.DomainConstants.ZONE_ID;
+
+/**
+ * Deletes the COMPLETED rows of one outbox table once they are older than the retention. Each chunk commits on its
+ * own so a large backlog never holds locks or generates WAL for the whole purge at once.
+ */
+@Slf4j
+public class OutboxChunkPurger {
+
+    @FunctionalInterface
+    public interface ChunkDeleter {
+        int deleteChunk(ZonedDateTime processedBefore, int chunkSize);
+    }
+
+    private final String tableName;
+    private final ChunkDeleter chunkDeleter;
+    private final LongSupplier tableSizeSupplier;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Counter purgedRowsCounter;
+    private final AtomicLong tableSizeInBytes = new AtomicLong();
+
+    public OutboxChunkPurger(String tableName,
+                             ChunkDeleter chunkDeleter,
+                             LongSupplier tableSizeSupplier,
+                             OrderServiceConfigData orderServiceConfigData,
+                             MeterRegistry meterRegistry) {
+        this.tableName = tableName;
+        this.chunkDeleter = chunkDeleter;
+        this.tableSizeSupplier = tableSizeSupplier;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.purgedRowsCounter = Counter.builder("outbox.cleaner.purged.rows")
+                .tag("table", tableName)
+                .register(meterRegistry);
+        Gauge.builder("outbox.table.size", tableSizeInBytes, AtomicLong::get)
+                .tag("table", tableName)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public void purge() {
+        ZonedDateTime processedBefore = ZonedDateTime.now(ZoneId.of(ZONE_ID))
+                .minus(Duration.ofMillis(orderServiceConfigData.getOutboxCleanerRetentionMs()));
+        int chunkSize = orderServiceConfigData.getOutboxCleanerChunkSize();
+        int purged = 0;
+        int chunks = 0;
+        int deleted;
+        do {
+            deleted = chunkDeleter.deleteChunk(processedBefore, chunkSize);
+            purged += deleted;
+            chunks++;
+        } while (deleted == chunkSize && chunks < orderServiceConfigData.getOutboxCleanerMaxChunksPerRun());
+
+        purgedRowsCounter.increment(purged);
+        tableSizeInBytes.set(tableSizeSupplier.getAsLong());
+
+        if (purged > 0) {
+            log.info("{} completed outbox messages deleted from {} in {} chunks, table size is {} bytes",
+                    purged, tableName, chunks, tableSizeInBytes.get());
+        }
+    }
+}
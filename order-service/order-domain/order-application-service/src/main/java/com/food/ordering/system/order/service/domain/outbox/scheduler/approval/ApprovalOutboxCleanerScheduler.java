@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.OutboxChunkPurger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ApprovalOutboxCleanerScheduler {
+
+    private final OutboxChunkPurger outboxChunkPurger;
+
+    public ApprovalOutboxCleanerScheduler(ApprovalOutboxHelper approvalOutboxHelper,
+                                          OrderServiceConfigData orderServiceConfigData,
+                                          MeterRegistry meterRegistry) {
+        this.outboxChunkPurger = new OutboxChunkPurger(
+                "restaurant_approval_outbox",
+                approvalOutboxHelper::deleteCompletedApprovalOutboxMessagesChunk,
+                approvalOutboxHelper::getApprovalOutboxTableSizeInBytes,
+                orderServiceConfigData,
+                meterRegistry
+        );
+    }
+
+    @Scheduled(
+            fixedDelayString = "${order-service.outbox-cleaner-fixed-rate}",
+            initialDelayString = "${order-service.outbox-scheduler-initial-delay}"
+    )
+    public void cleanOutboxMessages() {
+        outboxChunkPurger.purge();
+    }
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
+
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.food.ordering.system.saga.order.SageContents.ORDER_SAGA_NAME;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalOutboxHelper {
+
+    private final ApprovalOutboxRepository approvalOutboxRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<List<OrderApprovalOutboxMessage>> getApprovalOutboxMessageByOutboxStatusAndSagaStatus(
+            OutboxStatus outboxStatus,
+            SagaStatus... sagaStatus
+    ) {
+        return approvalOutboxRepository.findByTypeAndOutboxStatusAndSagaStatus(
+                ORDER_SAGA_NAME,
+                outboxStatus,
+                sagaStatus
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OrderApprovalOutboxMessage> getApprovalOutboxMessageBySagaIdAndSagaStatus(
+            UUID sagaId,
+            SagaStatus... sagaStatus
+    ) {
+        return approvalOutboxRepository.findByTypeAndSagaIdAndSagaStatus(
+                ORDER_SAGA_NAME,
+                sagaId,
+                sagaStatus
+        );
+    }
+
+    @Transactional
+    public int deleteCompletedApprovalOutboxMessagesChunk(ZonedDateTime processedBefore, int chunkSize) {
+        return approvalOutboxRepository.deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+                ORDER_SAGA_NAME,
+                OutboxStatus.COMPLETED,
+                processedBefore,
+                chunkSize
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public long getApprovalOutboxTableSizeInBytes() {
+        return approvalOutboxRepository.getTableSizeInBytes();
+    }
+}
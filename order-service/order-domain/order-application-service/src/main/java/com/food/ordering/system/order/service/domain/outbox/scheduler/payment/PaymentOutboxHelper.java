@@ -1,5 +1,10 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
 import com.food.ordering.system.outbox.OutboxStatus;
@@ -7,12 +12,17 @@ import com.food.ordering.system.saga.SagaStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.food.ordering.system.domain.DomainConstants.ZONE_ID;
 import static com.food.ordering.system.saga.order.SageContents.ORDER_SAGA_NAME;
 
 @Slf4j
@@ -21,6 +31,7 @@ import static com.food.ordering.system.saga.order.SageContents.ORDER_SAGA_NAME;
 public class PaymentOutboxHelper {
 
     private final PaymentOutboxRepository paymentOutboxRepository;
+    private final ObjectMapper objectMapper;
 
     @Transactional(readOnly = true)
     public Optional<List<OrderPaymentOutboxMessage>> getPaymentOutboxMessageByOutboxStatusAndSagaStatus(
@@ -45,4 +56,110 @@ public class PaymentOutboxHelper {
                 sagaStatus
         );
     }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void savePaymentOutboxMessage(OrderPaymentEventPayload orderPaymentEventPayload,
+                                         OrderStatus orderStatus,
+                                         SagaStatus sagaStatus,
+                                         OutboxStatus outboxStatus,
+                                         UUID sagaId) {
+        OrderPaymentOutboxMessage orderPaymentOutboxMessage =
+                createOutboxMessage(orderPaymentEventPayload, orderStatus, sagaStatus, outboxStatus, sagaId);
+        paymentOutboxRepository.insertAll(List.of(orderPaymentOutboxMessage));
+        log.info("OrderPaymentOutboxMessage saved with outbox id: {}", orderPaymentOutboxMessage.getId());
+    }
+
+    // Each message starts a saga of its own
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void savePaymentOutboxMessages(List<OrderPaymentEventPayload> orderPaymentEventPayloads,
+                                          OrderStatus orderStatus,
+                                          SagaStatus sagaStatus,
+                                          OutboxStatus outboxStatus) {
+        paymentOutboxRepository.insertAll(orderPaymentEventPayloads.stream()
+                .map(orderPaymentEventPayload -> createOutboxMessage(
+                        orderPaymentEventPayload, orderStatus, sagaStatus, outboxStatus, UUID.randomUUID()))
+                .toList());
+        log.info("{} OrderPaymentOutboxMessages saved", orderPaymentEventPayloads.size());
+    }
+
+    // Claimed rows are stamped and the row locks released on commit, the messages are published afterwards
+    @Transactional
+    public List<OrderPaymentOutboxMessage> claimPaymentOutboxMessagesByOutboxStatusAndSagaStatus(
+            OutboxStatus outboxStatus,
+            int batchSize,
+            Duration claimTimeout,
+            SagaStatus... sagaStatus
+    ) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(ZONE_ID));
+        List<OrderPaymentOutboxMessage> outboxMessages =
+                paymentOutboxRepository.claimByTypeAndOutboxStatusAndSagaStatus(
+                        ORDER_SAGA_NAME,
+                        outboxStatus,
+                        batchSize,
+                        now.minus(claimTimeout),
+                        sagaStatus
+                );
+        if (!outboxMessages.isEmpty()) {
+            paymentOutboxRepository.updateClaimedAtByIds(
+                    outboxMessages.stream().map(OrderPaymentOutboxMessage::getId).toList(),
+                    now
+            );
+        }
+        return outboxMessages;
+    }
+
+    @Transactional
+    public int updateOutboxStatus(List<UUID> outboxMessageIds, OutboxStatus outboxStatus) {
+        if (outboxMessageIds.isEmpty()) {
+            return 0;
+        }
+        return paymentOutboxRepository.updateOutboxStatusByIds(
+                outboxMessageIds,
+                outboxStatus,
+                ZonedDateTime.now(ZoneId.of(ZONE_ID))
+        );
+    }
+
+    @Transactional
+    public int deleteCompletedPaymentOutboxMessagesChunk(ZonedDateTime processedBefore, int chunkSize) {
+        return paymentOutboxRepository.deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+                ORDER_SAGA_NAME,
+                OutboxStatus.COMPLETED,
+                processedBefore,
+                chunkSize
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public long getPaymentOutboxTableSizeInBytes() {
+        return paymentOutboxRepository.getTableSizeInBytes();
+    }
+
+    private OrderPaymentOutboxMessage createOutboxMessage(OrderPaymentEventPayload orderPaymentEventPayload,
+                                                          OrderStatus orderStatus,
+                                                          SagaStatus sagaStatus,
+                                                          OutboxStatus outboxStatus,
+                                                          UUID sagaId) {
+        return OrderPaymentOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(sagaId)
+                .createdAt(orderPaymentEventPayload.getCratedAt())
+                .type(ORDER_SAGA_NAME)
+                .payload(createPayload(orderPaymentEventPayload))
+                .orderStatus(orderStatus)
+                .sagaStatus(sagaStatus)
+                .outboxStatus(outboxStatus)
+                .build();
+    }
+
+    private String createPayload(OrderPaymentEventPayload orderPaymentEventPayload) {
+        try {
+            return objectMapper.writeValueAsString(orderPaymentEventPayload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not create OrderPaymentEventPayload object for order id: {}",
+                    orderPaymentEventPayload.getOrderId(), e);
+            throw new OrderDomainException("Could not create OrderPaymentEventPayload object for order id: "
+                    + orderPaymentEventPayload.getOrderId(), e);
+        }
+    }
 }
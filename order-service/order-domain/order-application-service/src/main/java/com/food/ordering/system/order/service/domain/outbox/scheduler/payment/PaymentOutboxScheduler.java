@@ -1,28 +1,108 @@
 package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
 import com.food.ordering.system.outbox.OutboxScheduler;
-import lombok.RequiredArgsConstructor;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.food.ordering.system.domain.DomainConstants.ZONE_ID;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PaymentOutboxScheduler implements OutboxScheduler {
 
     private final PaymentOutboxHelper paymentOutboxHelper;
     private final PaymentRequestMessagePublisher paymentRequestMessagePublisher;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final Timer outboxAgeTimer;
 
+    public PaymentOutboxScheduler(PaymentOutboxHelper paymentOutboxHelper,
+                                  PaymentRequestMessagePublisher paymentRequestMessagePublisher,
+                                  OrderServiceConfigData orderServiceConfigData,
+                                  MeterRegistry meterRegistry) {
+        this.paymentOutboxHelper = paymentOutboxHelper;
+        this.paymentRequestMessagePublisher = paymentRequestMessagePublisher;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.outboxAgeTimer = Timer.builder("outbox.age")
+                .description("Time from outbox insert until the message is acknowledged by the broker")
+                .tag("table", "payment_outbox")
+                .register(meterRegistry);
+    }
+
+    // Not transactional: the claim commits before publishing, so no connection
+    // or row lock is held while waiting for acknowledgements.
     @Override
-    @Transactional
     @Scheduled(
             fixedDelayString = "${order-service.outbox-scheduler-fixed-rate}",
             initialDelayString = "${order-service.outbox-scheduler-initial-delay}"
     )
     public void processOutboxMessage() {
+        List<OrderPaymentOutboxMessage> outboxMessages =
+                paymentOutboxHelper.claimPaymentOutboxMessagesByOutboxStatusAndSagaStatus(
+                        OutboxStatus.STARTED,
+                        orderServiceConfigData.getOutboxSchedulerBatchSize(),
+                        Duration.ofMillis(orderServiceConfigData.getOutboxSchedulerClaimTimeoutMs()),
+                        SagaStatus.START,
+                        SagaStatus.COMPENSATING
+                );
+
+        if (outboxMessages.isEmpty()) {
+            return;
+        }
+
+        log.info("Claimed {} OrderPaymentOutboxMessage with ids: {}, sending to message bus!",
+                outboxMessages.size(),
+                outboxMessages.stream().map(outboxMessage -> outboxMessage.getId().toString())
+                        .collect(Collectors.joining(",")));
+
+        Queue<UUID> completedIds = new ConcurrentLinkedQueue<>();
+        CountDownLatch publishLatch = new CountDownLatch(outboxMessages.size());
+        outboxMessages.forEach(outboxMessage ->
+                paymentRequestMessagePublisher.publish(outboxMessage, (publishedMessage, outboxStatus) -> {
+                    if (outboxStatus == OutboxStatus.COMPLETED) {
+                        completedIds.add(publishedMessage.getId());
+                        outboxAgeTimer.record(Duration.between(publishedMessage.getCreatedAt(),
+                                ZonedDateTime.now(ZoneId.of(ZONE_ID))));
+                    }
+                    publishLatch.countDown();
+                }));
+
+        awaitPublish(publishLatch);
+
+        // Rows that failed or were not acknowledged in time stay STARTED and are
+        // claimed again once their claim expires.
+        int updated = paymentOutboxHelper.updateOutboxStatus(List.copyOf(completedIds), OutboxStatus.COMPLETED);
+        log.info("{} of {} OrderPaymentOutboxMessage sent to message bus and marked as COMPLETED",
+                updated, outboxMessages.size());
+    }
 
+    private void awaitPublish(CountDownLatch publishLatch) {
+        try {
+            if (!publishLatch.await(orderServiceConfigData.getOutboxSchedulerPublishTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                log.warn("Timed out waiting for {} OrderPaymentOutboxMessage acknowledgements",
+                        publishLatch.getCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for OrderPaymentOutboxMessage acknowledgements");
+        }
     }
 }
@@ -2,10 +2,14 @@ package com.food.ordering.system.order.service.domain.ports.input.message.listen
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 
+import java.util.List;
+
 public interface PaymentResponseMessageListener {
 
     void paymentCompleted(PaymentResponse paymentResponse);
 
     void paymentCanceled(PaymentResponse paymentResponse);
 
+    void paymentResponsesReceived(List<PaymentResponse> paymentResponses);
+
 }
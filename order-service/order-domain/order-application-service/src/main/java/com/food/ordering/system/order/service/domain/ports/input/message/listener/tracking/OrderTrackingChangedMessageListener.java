@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface OrderTrackingChangedMessageListener {
+
+    void orderTrackingChanged(UUID trackingId);
+
+    // Completes normally on the next change or once the timeout elapses, whichever comes first
+    CompletableFuture<Void> awaitChange(UUID trackingId, long timeoutMs);
+}
@@ -2,14 +2,27 @@ package com.food.ordering.system.order.service.domain.ports.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 public interface OrderApplicationService {
 
     CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
 
+    CompletableFuture<CreateOrderResponse> createOrderAsync(@Valid CreateOrderCommand createOrderCommand);
+
+    List<CreateOrderResult> createOrders(@NotNull List<CreateOrderCommand> createOrderCommands);
+
     TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
+
+    CompletableFuture<TrackOrderResponse> awaitOrderTracking(@Valid TrackOrderQuery trackOrderQuery,
+                                                             Predicate<TrackOrderResponse> known);
 }
 
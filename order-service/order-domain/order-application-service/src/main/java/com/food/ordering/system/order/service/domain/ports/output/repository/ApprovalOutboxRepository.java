@@ -4,6 +4,7 @@ import com.food.ordering.system.order.service.domain.outbox.model.approval.Order
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,4 +29,13 @@ public interface ApprovalOutboxRepository {
             OutboxStatus outboxStatus,
             SagaStatus... sagaStatus
     );
+
+    int deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+            String type,
+            OutboxStatus outboxStatus,
+            ZonedDateTime processedBefore,
+            int chunkSize
+    );
+
+    long getTableSizeInBytes();
 }
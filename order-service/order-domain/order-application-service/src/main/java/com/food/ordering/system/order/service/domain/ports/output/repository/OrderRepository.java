@@ -1,16 +1,33 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
 import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.OrderStatus;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.vo.TrackingId;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    List<Order> saveAll(List<Order> orders);
+
+    void insert(Order order);
+
+    void insertAll(List<Order> orders);
+
+    // Compare-and-set on the order status; false when the order is no longer in expectedStatus
+    boolean updateStatus(OrderId orderId, OrderStatus expectedStatus, OrderStatus newStatus, List<String> failureMessages);
+
+    // Batched compare-and-set of the status each order now holds; returns the orders no longer in their expected status
+    List<OrderId> updateStatuses(List<Order> orders, Map<OrderId, OrderStatus> expectedStatuses);
+
     Optional<Order> findById(OrderId orderId);
 
+    List<Order> findAllById(List<OrderId> orderIds);
+
     Optional<Order> findByTrackingId(TrackingId trackingId);
 }
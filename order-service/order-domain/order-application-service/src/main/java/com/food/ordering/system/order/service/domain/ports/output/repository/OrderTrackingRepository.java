@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.vo.TrackingId;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderTrackingRepository {
+
+    void save(Order order);
+
+    void saveAll(List<Order> orders);
+
+    Optional<TrackOrderResponse> findByTrackingId(TrackingId trackingId);
+}
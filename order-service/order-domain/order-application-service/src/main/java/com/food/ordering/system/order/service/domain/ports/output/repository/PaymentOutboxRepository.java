@@ -4,6 +4,7 @@ import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderP
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +12,8 @@ import java.util.UUID;
 public interface PaymentOutboxRepository {
     OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage);
 
+    void insertAll(List<OrderPaymentOutboxMessage> orderPaymentOutboxMessages);
+
     Optional<List<OrderPaymentOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(
             String type,
             OutboxStatus outboxStatus,
@@ -28,4 +31,25 @@ public interface PaymentOutboxRepository {
             OutboxStatus outboxStatus,
             SagaStatus... sagaStatus
     );
+
+    List<OrderPaymentOutboxMessage> claimByTypeAndOutboxStatusAndSagaStatus(
+            String type,
+            OutboxStatus outboxStatus,
+            int batchSize,
+            ZonedDateTime claimExpiredBefore,
+            SagaStatus... sagaStatus
+    );
+
+    int updateClaimedAtByIds(List<UUID> ids, ZonedDateTime claimedAt);
+
+    int updateOutboxStatusByIds(List<UUID> ids, OutboxStatus outboxStatus, ZonedDateTime processedAt);
+
+    int deleteChunkByTypeAndOutboxStatusAndProcessedAtBefore(
+            String type,
+            OutboxStatus outboxStatus,
+            ZonedDateTime processedBefore,
+            int chunkSize
+    );
+
+    long getTableSizeInBytes();
 }
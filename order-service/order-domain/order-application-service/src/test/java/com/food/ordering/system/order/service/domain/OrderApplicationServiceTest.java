@@ -145,6 +145,7 @@ public class OrderApplicationServiceTest {
         order.setId(new OrderId(ORDER_ID));
 
         when(customerRepository.findCustomer(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+        when(customerRepository.existsCustomer(CUSTOMER_ID)).thenReturn(true);
         when(restaurantRepository.findRestaurantInformation(
                 orderDataMapper.createOrderCommandToRestaurant(createOrderCommand)
         )).thenReturn(Optional.of(restaurantResponse));
@@ -0,0 +1,172 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.domain.vo.ProductId;
+import com.food.ordering.system.domain.vo.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class OrderCreateCommandHandlerTest {
+
+    private static final int BULK_CREATE_MAX_ORDERS = 5;
+
+    private final UUID CUSTOMER_ID = UUID.fromString("52271c42-ee06-49ab-a716-068c5754a024");
+    private final UUID UNKNOWN_CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    private final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final RestaurantRepository restaurantRepository = mock(RestaurantRepository.class);
+    private final PaymentOutboxHelper paymentOutboxHelper = mock(PaymentOutboxHelper.class);
+    private final OrderCreateHelper orderCreateHelper = new OrderCreateHelper(new OrderDomainServiceImpl(),
+            orderRepository, mock(OrderTrackingRepository.class), customerRepository, restaurantRepository,
+            new OrderDataMapper(), mock(OrderCreatedPaymentRequestMessagePublisher.class), paymentOutboxHelper,
+            mock(OrderSagaHelper.class));
+    private OrderCreateCommandHandler orderCreateCommandHandler;
+
+    @BeforeEach
+    public void init() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setBulkCreateMaxOrders(BULK_CREATE_MAX_ORDERS);
+        orderCreateCommandHandler = new OrderCreateCommandHandler(orderCreateHelper, new OrderDataMapper(),
+                orderServiceConfigData, Validation.buildDefaultValidatorFactory().getValidator());
+
+        when(customerRepository.findExistingCustomerIds(any())).thenReturn(Set.of(CUSTOMER_ID));
+        when(restaurantRepository.findRestaurantsInformation(anyList())).thenReturn(List.of(Restaurant.builder()
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .products(List.of(new Product(new ProductId(PRODUCT_ID), "product-1",
+                        new Money(new BigDecimal("50.00")))))
+                .active(true)
+                .build()));
+    }
+
+    @AfterEach
+    public void destroy() {
+        orderCreateCommandHandler.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEachResultKeepsTheIndexOfItsCommand() {
+        List<CreateOrderCommand> createOrderCommands = Arrays.asList(
+                createOrderCommand(CUSTOMER_ID, "50.00"),
+                null,
+                createOrderCommand(UNKNOWN_CUSTOMER_ID, "50.00"),
+                createOrderCommand(CUSTOMER_ID, "60.00"),
+                createOrderCommand(CUSTOMER_ID, "50.00"));
+
+        List<CreateOrderResult> createOrderResults = orderCreateCommandHandler.createOrders(createOrderCommands);
+
+        assertEquals(List.of(0, 1, 2, 3, 4), createOrderResults.stream().map(CreateOrderResult::getIndex).toList());
+        assertEquals(List.of(true, false, false, false, true),
+                createOrderResults.stream().map(CreateOrderResult::isCreated).toList());
+        assertEquals("Order must not be null", createOrderResults.get(1).getMessage());
+        assertEquals("Could not find customer with id: " + UNKNOWN_CUSTOMER_ID, createOrderResults.get(2).getMessage());
+        assertEquals("Total price: 60.00 is not equal to Order items total: 50.00",
+                createOrderResults.get(3).getMessage());
+        assertEquals(OrderStatus.PENDING, createOrderResults.get(0).getOrderStatus());
+        assertNotNull(createOrderResults.get(4).getOrderTrackingId());
+
+        ArgumentCaptor<List<Order>> orders = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).insertAll(orders.capture());
+        assertEquals(List.of(createOrderResults.get(0).getOrderTrackingId(),
+                        createOrderResults.get(4).getOrderTrackingId()),
+                orders.getValue().stream().map(order -> order.getTrackingId().getValue()).toList());
+    }
+
+    @Test
+    public void testConstraintViolationsOnlyRejectTheirOwnCommand() {
+        CreateOrderCommand missingAddress = CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .price(new BigDecimal("50.00"))
+                .items(items())
+                .build();
+
+        List<CreateOrderResult> createOrderResults = orderCreateCommandHandler.createOrders(
+                List.of(missingAddress, createOrderCommand(CUSTOMER_ID, "50.00")));
+
+        assertFalse(createOrderResults.get(0).isCreated());
+        assertTrue(createOrderResults.get(0).getMessage().startsWith("address "));
+        assertTrue(createOrderResults.get(1).isCreated());
+    }
+
+    @Test
+    public void testNothingIsPersistedWhenEveryOrderIsRejected() {
+        List<CreateOrderResult> createOrderResults = orderCreateCommandHandler.createOrders(
+                List.of(createOrderCommand(UNKNOWN_CUSTOMER_ID, "50.00")));
+
+        assertFalse(createOrderResults.get(0).isCreated());
+        verify(orderRepository, never()).insertAll(anyList());
+        verifyNoInteractions(paymentOutboxHelper);
+    }
+
+    @Test
+    public void testTooManyOrdersAreRejectedAsAWhole() {
+        List<CreateOrderCommand> createOrderCommands = new ArrayList<>();
+        for (int i = 0; i <= BULK_CREATE_MAX_ORDERS; i++) {
+            createOrderCommands.add(createOrderCommand(CUSTOMER_ID, "50.00"));
+        }
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderCreateCommandHandler.createOrders(createOrderCommands));
+        assertEquals("At most " + BULK_CREATE_MAX_ORDERS + " orders can be created at once, got "
+                + createOrderCommands.size(), orderDomainException.getMessage());
+        verifyNoInteractions(orderRepository);
+    }
+
+    private CreateOrderCommand createOrderCommand(UUID customerId, String price) {
+        return CreateOrderCommand.builder()
+                .customerId(customerId)
+                .restaurantId(RESTAURANT_ID)
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .city("Paris")
+                        .postalCode("1000AB")
+                        .build())
+                .price(new BigDecimal(price))
+                .items(items())
+                .build();
+    }
+
+    private List<OrderItem> items() {
+        return List.of(OrderItem.builder()
+                .productId(PRODUCT_ID)
+                .quantity(1)
+                .price(new BigDecimal("50.00"))
+                .subTotal(new BigDecimal("50.00"))
+                .build());
+    }
+}
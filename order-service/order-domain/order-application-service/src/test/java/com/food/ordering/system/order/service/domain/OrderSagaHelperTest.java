@@ -0,0 +1,86 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class OrderSagaHelperTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderTrackingRepository orderTrackingRepository = mock(OrderTrackingRepository.class);
+    private final OrderSagaHelper orderSagaHelper = new OrderSagaHelper(orderRepository, orderTrackingRepository);
+
+    @Test
+    public void testStatusIsSetOnlyFromTheExpectedStatus() {
+        Order order = order(OrderStatus.PAID);
+        when(orderRepository.updateStatus(order.getId(), OrderStatus.PENDING, OrderStatus.PAID, List.of()))
+                .thenReturn(true);
+
+        orderSagaHelper.updateOrderStatus(order, OrderStatus.PENDING);
+
+        verify(orderTrackingRepository).save(order);
+    }
+
+    @Test
+    public void testConcurrentTransitionFailsTheStep() {
+        Order order = order(OrderStatus.PAID);
+        when(orderRepository.updateStatus(any(), any(), any(), any())).thenReturn(false);
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderSagaHelper.updateOrderStatus(order, OrderStatus.PENDING));
+
+        assertEquals("Order with id: " + order.getId().getValue() + " is no longer in status PENDING",
+                orderDomainException.getMessage());
+        verifyNoInteractions(orderTrackingRepository);
+    }
+
+    @Test
+    public void testBatchUpdatePassesExpectedStatusesAndSavesTracking() {
+        List<Order> orders = List.of(order(OrderStatus.PAID), order(OrderStatus.CANCELLED));
+        Map<OrderId, OrderStatus> expectedStatuses = Map.of(
+                orders.get(0).getId(), OrderStatus.PENDING,
+                orders.get(1).getId(), OrderStatus.PENDING);
+        when(orderRepository.updateStatuses(orders, expectedStatuses)).thenReturn(List.of());
+
+        orderSagaHelper.updateOrderStatuses(orders, expectedStatuses);
+
+        verify(orderTrackingRepository).saveAll(orders);
+    }
+
+    @Test
+    public void testStaleOrdersFailTheBatchWithTheirIds() {
+        Order upToDate = order(OrderStatus.PAID);
+        Order stale = order(OrderStatus.PAID);
+        when(orderRepository.updateStatuses(anyList(), any())).thenReturn(List.of(stale.getId()));
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderSagaHelper.updateOrderStatuses(List.of(upToDate, stale), Map.of(
+                        upToDate.getId(), OrderStatus.PENDING,
+                        stale.getId(), OrderStatus.PENDING)));
+
+        assertEquals("Orders with ids: [" + stale.getId().getValue() + "] are no longer in their expected status",
+                orderDomainException.getMessage());
+        verifyNoInteractions(orderTrackingRepository);
+    }
+
+    private Order order(OrderStatus orderStatus) {
+        return Order.builder()
+                .orderId(new OrderId(UUID.randomUUID()))
+                .orderStatus(orderStatus)
+                .failureMessages(List.of())
+                .build();
+    }
+}
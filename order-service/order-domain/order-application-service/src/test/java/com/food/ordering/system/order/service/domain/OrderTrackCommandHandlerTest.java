@@ -0,0 +1,102 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.vo.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class OrderTrackCommandHandlerTest {
+
+    private static final long AWAIT_TIMEOUT_MS = 1000L;
+
+    private final UUID TRACKING_ID = UUID.fromString("0e1c5a8a-5a38-4d4f-8f1f-5c3b4d3a1a11");
+    private final TrackOrderQuery trackOrderQuery = TrackOrderQuery.builder().orderTrackingId(TRACKING_ID).build();
+
+    private final OrderTrackingRepository orderTrackingRepository = mock(OrderTrackingRepository.class);
+    private final OrderTrackingChangedMessageListenerImpl orderTrackingChangedMessageListener =
+            new OrderTrackingChangedMessageListenerImpl();
+    private OrderTrackCommandHandler orderTrackCommandHandler;
+
+    @BeforeEach
+    public void init() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOrderTrackingAwaitTimeoutMs(AWAIT_TIMEOUT_MS);
+        orderTrackCommandHandler = new OrderTrackCommandHandler(orderTrackingRepository,
+                orderTrackingChangedMessageListener, orderServiceConfigData);
+    }
+
+    @AfterEach
+    public void destroy() {
+        orderTrackingChangedMessageListener.shutdown();
+    }
+
+    @Test
+    public void testUnknownVersionIsReturnedWithoutWaiting() {
+        when(orderTrackingRepository.findByTrackingId(any())).thenReturn(Optional.of(response(OrderStatus.PAID)));
+
+        CompletableFuture<TrackOrderResponse> result = orderTrackCommandHandler.awaitOrderTracking(trackOrderQuery,
+                trackOrderResponse -> trackOrderResponse.getOrderStatus() == OrderStatus.PENDING);
+
+        assertTrue(result.isDone());
+        assertEquals(OrderStatus.PAID, result.join().getOrderStatus());
+        verify(orderTrackingRepository, times(1)).findByTrackingId(any());
+    }
+
+    @Test
+    public void testKnownVersionIsReturnedAgainOnceAwaitTimesOut() throws Exception {
+        when(orderTrackingRepository.findByTrackingId(any())).thenReturn(Optional.of(response(OrderStatus.PENDING)));
+
+        long start = System.nanoTime();
+        CompletableFuture<TrackOrderResponse> result = orderTrackCommandHandler.awaitOrderTracking(trackOrderQuery,
+                trackOrderResponse -> trackOrderResponse.getOrderStatus() == OrderStatus.PENDING);
+
+        assertFalse(result.isDone());
+        assertEquals(OrderStatus.PENDING, result.get(5, TimeUnit.SECONDS).getOrderStatus());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= AWAIT_TIMEOUT_MS);
+        verify(orderTrackingRepository, times(2)).findByTrackingId(any());
+    }
+
+    @Test
+    public void testTrackingChangeWakesAwaitBeforeTimeout() throws Exception {
+        when(orderTrackingRepository.findByTrackingId(any()))
+                .thenReturn(Optional.of(response(OrderStatus.PENDING)))
+                .thenReturn(Optional.of(response(OrderStatus.PAID)));
+
+        CompletableFuture<TrackOrderResponse> result = orderTrackCommandHandler.awaitOrderTracking(trackOrderQuery,
+                trackOrderResponse -> trackOrderResponse.getOrderStatus() == OrderStatus.PENDING);
+        orderTrackingChangedMessageListener.orderTrackingChanged(TRACKING_ID);
+
+        assertEquals(OrderStatus.PAID, result.get(AWAIT_TIMEOUT_MS / 2, TimeUnit.MILLISECONDS).getOrderStatus());
+    }
+
+    @Test
+    public void testUnknownTrackingIdFailsWithoutParking() {
+        when(orderTrackingRepository.findByTrackingId(any())).thenReturn(Optional.empty());
+
+        assertThrows(OrderNotFoundException.class, () -> orderTrackCommandHandler.awaitOrderTracking(
+                trackOrderQuery, trackOrderResponse -> true));
+    }
+
+    private TrackOrderResponse response(OrderStatus orderStatus) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(TRACKING_ID)
+                .orderStatus(orderStatus)
+                .failureMessage(List.of())
+                .build();
+    }
+}
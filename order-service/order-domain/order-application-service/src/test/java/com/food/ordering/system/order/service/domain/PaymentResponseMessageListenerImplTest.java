@@ -0,0 +1,85 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.vo.OrderId;
+import com.food.ordering.system.domain.vo.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PaymentResponseMessageListenerImplTest {
+
+    private final OrderPaymentSaga orderPaymentSaga = mock(OrderPaymentSaga.class);
+    private final PaymentResponseMessageListenerImpl paymentResponseMessageListener =
+            new PaymentResponseMessageListenerImpl(orderPaymentSaga, ObservationRegistry.NOOP);
+
+    @Test
+    public void testBatchPublishesEveryPaidEvent() {
+        List<PaymentResponse> paymentResponses = List.of(paymentResponse(), paymentResponse());
+        OrderPaidEvent firstEvent = orderPaidEvent();
+        OrderPaidEvent secondEvent = orderPaidEvent();
+        when(orderPaymentSaga.processBatch(paymentResponses)).thenReturn(List.of(firstEvent, secondEvent));
+
+        paymentResponseMessageListener.paymentResponsesReceived(paymentResponses);
+
+        verify(firstEvent).fire();
+        verify(secondEvent).fire();
+    }
+
+    @Test
+    public void testBatchPublishFailureDoesNotFailCommittedBatch() {
+        List<PaymentResponse> paymentResponses = List.of(paymentResponse(), paymentResponse());
+        OrderPaidEvent failingEvent = orderPaidEvent();
+        OrderPaidEvent secondEvent = orderPaidEvent();
+        doThrow(new IllegalStateException("Broker unavailable")).when(failingEvent).fire();
+        when(orderPaymentSaga.processBatch(paymentResponses)).thenReturn(List.of(failingEvent, secondEvent));
+
+        // A failure escaping here would send the already committed batch to the per-message fallback
+        assertDoesNotThrow(() -> paymentResponseMessageListener.paymentResponsesReceived(paymentResponses));
+
+        verify(secondEvent).fire();
+        verify(orderPaymentSaga, never()).process(any());
+    }
+
+    @Test
+    public void testBatchSagaFailureIsRaisedForFallback() {
+        List<PaymentResponse> paymentResponses = List.of(paymentResponse());
+        when(orderPaymentSaga.processBatch(paymentResponses)).thenThrow(new IllegalStateException("Order not found"));
+
+        assertThrows(IllegalStateException.class,
+                () -> paymentResponseMessageListener.paymentResponsesReceived(paymentResponses));
+    }
+
+    @Test
+    public void testPaymentCompletedPublishFailureDoesNotFailCommittedStep() {
+        PaymentResponse paymentResponse = paymentResponse();
+        OrderPaidEvent failingEvent = orderPaidEvent();
+        doThrow(new IllegalStateException("Broker unavailable")).when(failingEvent).fire();
+        when(orderPaymentSaga.process(paymentResponse)).thenReturn(failingEvent);
+
+        assertDoesNotThrow(() -> paymentResponseMessageListener.paymentCompleted(paymentResponse));
+
+        verify(orderPaymentSaga, times(1)).process(paymentResponse);
+    }
+
+    private PaymentResponse paymentResponse() {
+        return PaymentResponse.builder()
+                .orderId(UUID.randomUUID().toString())
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .failureMessages(List.of())
+                .build();
+    }
+
+    private OrderPaidEvent orderPaidEvent() {
+        Order order = Order.builder().orderId(new OrderId(UUID.randomUUID())).build();
+        return spy(new OrderPaidEvent(order, ZonedDateTime.now(), event -> { }));
+    }
+}
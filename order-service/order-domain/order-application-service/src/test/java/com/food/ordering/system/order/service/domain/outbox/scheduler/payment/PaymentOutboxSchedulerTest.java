@@ -0,0 +1,137 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import static com.food.ordering.system.domain.DomainConstants.ZONE_ID;
+import static com.food.ordering.system.saga.order.SageContents.ORDER_SAGA_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class PaymentOutboxSchedulerTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final long CLAIM_TIMEOUT_MS = 60000L;
+
+    private final PaymentOutboxRepository paymentOutboxRepository = mock(PaymentOutboxRepository.class);
+    private final PaymentRequestMessagePublisher paymentRequestMessagePublisher =
+            mock(PaymentRequestMessagePublisher.class);
+    private PaymentOutboxScheduler paymentOutboxScheduler;
+
+    @BeforeEach
+    public void init() {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setOutboxSchedulerBatchSize(BATCH_SIZE);
+        orderServiceConfigData.setOutboxSchedulerClaimTimeoutMs(CLAIM_TIMEOUT_MS);
+        orderServiceConfigData.setOutboxSchedulerPublishTimeoutMs(200L);
+        paymentOutboxScheduler = new PaymentOutboxScheduler(
+                new PaymentOutboxHelper(paymentOutboxRepository, new ObjectMapper()),
+                paymentRequestMessagePublisher, orderServiceConfigData, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testClaimSkipsUnexpiredClaimsAndStampsClaimedRows() {
+        List<OrderPaymentOutboxMessage> outboxMessages = List.of(outboxMessage(), outboxMessage());
+        claim(outboxMessages);
+        ZonedDateTime before = ZonedDateTime.now(ZoneId.of(ZONE_ID));
+
+        paymentOutboxScheduler.processOutboxMessage();
+
+        ArgumentCaptor<ZonedDateTime> claimExpiredBefore = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(paymentOutboxRepository).claimByTypeAndOutboxStatusAndSagaStatus(eq(ORDER_SAGA_NAME),
+                eq(OutboxStatus.STARTED), eq(BATCH_SIZE), claimExpiredBefore.capture(),
+                eq(SagaStatus.START), eq(SagaStatus.COMPENSATING));
+        assertFalse(claimExpiredBefore.getValue().isBefore(before.minus(Duration.ofMillis(CLAIM_TIMEOUT_MS))));
+        ArgumentCaptor<ZonedDateTime> claimedAt = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(paymentOutboxRepository).updateClaimedAtByIds(eq(ids(outboxMessages)), claimedAt.capture());
+        assertEquals(claimExpiredBefore.getValue().plus(Duration.ofMillis(CLAIM_TIMEOUT_MS)), claimedAt.getValue());
+    }
+
+    @Test
+    public void testEmptyClaimPublishesNothing() {
+        claim(List.of());
+
+        paymentOutboxScheduler.processOutboxMessage();
+
+        verify(paymentOutboxRepository, never()).updateClaimedAtByIds(anyList(), any());
+        verifyNoInteractions(paymentRequestMessagePublisher);
+        verify(paymentOutboxRepository, never()).updateOutboxStatusByIds(anyList(), any(), any());
+    }
+
+    @Test
+    public void testOnlyAcknowledgedRowsAreCompleted() {
+        OrderPaymentOutboxMessage acknowledged = outboxMessage();
+        OrderPaymentOutboxMessage failed = outboxMessage();
+        OrderPaymentOutboxMessage unacknowledged = outboxMessage();
+        claim(List.of(acknowledged, failed, unacknowledged));
+        acknowledge(acknowledged, OutboxStatus.COMPLETED);
+        acknowledge(failed, OutboxStatus.FAILED);
+
+        paymentOutboxScheduler.processOutboxMessage();
+
+        verify(paymentRequestMessagePublisher, times(3)).publish(any(), any());
+        // The unacknowledged row holds up the run only until the publish timeout, it stays claimed until it expires
+        verify(paymentOutboxRepository).updateOutboxStatusByIds(eq(List.of(acknowledged.getId())),
+                eq(OutboxStatus.COMPLETED), any());
+    }
+
+    @Test
+    public void testNothingIsCompletedWhenNoRowIsAcknowledged() {
+        OrderPaymentOutboxMessage failed = outboxMessage();
+        claim(List.of(failed));
+        acknowledge(failed, OutboxStatus.FAILED);
+
+        paymentOutboxScheduler.processOutboxMessage();
+
+        verify(paymentOutboxRepository, never()).updateOutboxStatusByIds(anyList(), any(), any());
+    }
+
+    private void claim(List<OrderPaymentOutboxMessage> outboxMessages) {
+        when(paymentOutboxRepository.claimByTypeAndOutboxStatusAndSagaStatus(any(), any(), anyInt(), any(),
+                any(SagaStatus[].class))).thenReturn(outboxMessages);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void acknowledge(OrderPaymentOutboxMessage outboxMessage, OutboxStatus outboxStatus) {
+        doAnswer(invocation -> {
+            invocation.<BiConsumer<OrderPaymentOutboxMessage, OutboxStatus>>getArgument(1)
+                    .accept(outboxMessage, outboxStatus);
+            return null;
+        }).when(paymentRequestMessagePublisher).publish(eq(outboxMessage), any(BiConsumer.class));
+    }
+
+    private List<UUID> ids(List<OrderPaymentOutboxMessage> outboxMessages) {
+        return outboxMessages.stream().map(OrderPaymentOutboxMessage::getId).toList();
+    }
+
+    private OrderPaymentOutboxMessage outboxMessage() {
+        return OrderPaymentOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(UUID.randomUUID())
+                .createdAt(ZonedDateTime.now(ZoneId.of(ZONE_ID)))
+                .type(ORDER_SAGA_NAME)
+                .outboxStatus(OutboxStatus.STARTED)
+                .sagaStatus(SagaStatus.START)
+                .build();
+    }
+}
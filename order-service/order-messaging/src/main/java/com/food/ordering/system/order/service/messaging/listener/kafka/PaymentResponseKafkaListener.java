@@ -1,6 +1,8 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.batch.KafkaBatchProcessor;
+import com.food.ordering.system.kafka.consumer.tracing.KafkaConsumerTracing;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
@@ -14,14 +16,19 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentResponseAvroModel> {
 
+    private static final String OPERATION = "payment-response process";
+
     private final PaymentResponseMessageListener paymentResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KafkaBatchProcessor kafkaBatchProcessor;
+    private final KafkaConsumerTracing kafkaConsumerTracing;
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}", topics = "${order-service.payment-response-topic-name}")
@@ -29,7 +36,8 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
             @Payload List<PaymentResponseAvroModel> messages,
             @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
             @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
-            @Header(KafkaHeaders.OFFSET) List<Long> offsets
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+            @Header(KafkaHeaders.BATCH_CONVERTED_HEADERS) List<Map<String, Object>> headers
     ) {
         log.info("{} number of payment response received with keys:{}, partitions:{} and offsets: {}",
                 messages.size(),
@@ -38,19 +46,31 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
                 offsets.toString()
         );
 
-        messages.forEach(paymentResponseAvroModel -> {
-            if (PaymentStatus.COMPLETED == paymentResponseAvroModel.getPaymentStatus()) {
-                log.info("Processing successful payment for order id: {}", paymentResponseAvroModel.getOrderId());
-                paymentResponseMessageListener.paymentCompleted(
-                        orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel)
-                );
-            } else if (PaymentStatus.CANCELLED == paymentResponseAvroModel.getPaymentStatus()
-                    || PaymentStatus.FAILED == paymentResponseAvroModel.getPaymentStatus()) {
-                log.info("Processing unsuccessful payment for order id: {}", paymentResponseAvroModel.getOrderId());
-                paymentResponseMessageListener.paymentCanceled(
-                        orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel)
-                );
-            }
-        });
+        try {
+            kafkaConsumerTracing.inBatchSpans(OPERATION, keys, headers, () ->
+                    paymentResponseMessageListener.paymentResponsesReceived(messages.stream()
+                            .map(orderMessagingDataMapper::paymentResponseAvroModelToPaymentResponse)
+                            .toList()));
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} payment responses could not be processed, retrying them individually: {}",
+                    messages.size(), e.getMessage());
+            kafkaBatchProcessor.process(OPERATION, messages, keys, partitions, offsets, headers,
+                    this::processPaymentResponse);
+        }
+    }
+
+    private void processPaymentResponse(PaymentResponseAvroModel paymentResponseAvroModel) {
+        if (PaymentStatus.COMPLETED == paymentResponseAvroModel.getPaymentStatus()) {
+            log.info("Processing successful payment for order id: {}", paymentResponseAvroModel.getOrderId());
+            paymentResponseMessageListener.paymentCompleted(
+                    orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel)
+            );
+        } else if (PaymentStatus.CANCELLED == paymentResponseAvroModel.getPaymentStatus()
+                || PaymentStatus.FAILED == paymentResponseAvroModel.getPaymentStatus()) {
+            log.info("Processing unsuccessful payment for order id: {}", paymentResponseAvroModel.getOrderId());
+            paymentResponseMessageListener.paymentCanceled(
+                    orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel)
+            );
+        }
     }
-}
+}
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.batch.KafkaBatchProcessor;
+import com.food.ordering.system.kafka.consumer.tracing.KafkaConsumerTracing;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
@@ -14,6 +16,7 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 import static com.food.ordering.system.domain.DomainConstants.FAILURE_MESSAGE_DELIMITER;
 
@@ -22,8 +25,12 @@ import static com.food.ordering.system.domain.DomainConstants.FAILURE_MESSAGE_DE
 @RequiredArgsConstructor
 public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<RestaurantApprovalResponseAvroModel> {
 
+    private static final String OPERATION = "restaurant-approval-response process";
+
     private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
     private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final KafkaBatchProcessor kafkaBatchProcessor;
+    private final KafkaConsumerTracing kafkaConsumerTracing;
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
@@ -32,7 +39,8 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
             @Payload List<RestaurantApprovalResponseAvroModel> messages,
             @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
             @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
-            @Header(KafkaHeaders.OFFSET) List<Long> offsets
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+            @Header(KafkaHeaders.BATCH_CONVERTED_HEADERS) List<Map<String, Object>> headers
     ) {
         log.info("{} number of restaurantApproval response received with keys:{}, partitions:{} and offsets: {}",
                 messages.size(),
@@ -41,28 +49,41 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
                 offsets.toString()
         );
 
-        messages.forEach(restaurantApprovalResponseAvroModel -> {
-            if (OrderApprovalStatus.APPROVED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-                log.info("Processing approved order for order id: {}"
-                        , restaurantApprovalResponseAvroModel.getOrderId());
+        try {
+            kafkaConsumerTracing.inBatchSpans(OPERATION, keys, headers, () ->
+                    restaurantApprovalResponseMessageListener.approvalResponsesReceived(messages.stream().map(
+                            orderMessagingDataMapper::restaurantApprovalResponseAvroModelToRestaurantApprovalResponse
+                    ).toList()));
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} restaurantApproval responses could not be processed, retrying them individually: {}",
+                    messages.size(), e.getMessage());
+            kafkaBatchProcessor.process(OPERATION, messages, keys, partitions, offsets, headers,
+                    this::processRestaurantApprovalResponse);
+        }
+    }
+
+    private void processRestaurantApprovalResponse(
+            RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel) {
+        if (OrderApprovalStatus.APPROVED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
+            log.info("Processing approved order for order id: {}"
+                    , restaurantApprovalResponseAvroModel.getOrderId());
 
-                restaurantApprovalResponseMessageListener.orderApproved(
-                        orderMessagingDataMapper
-                                .restaurantApprovalResponseAvroModelToRestaurantApprovalResponse(
-                                        restaurantApprovalResponseAvroModel)
-                );
-            } else if (OrderApprovalStatus.REJECTED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-                log.info("Processing rejected order for order id: {}, with failure messages: {}",
-                        restaurantApprovalResponseAvroModel.getOrderId(),
-                        String.join(FAILURE_MESSAGE_DELIMITER, restaurantApprovalResponseAvroModel.getFailureMessages())
-                );
+            restaurantApprovalResponseMessageListener.orderApproved(
+                    orderMessagingDataMapper
+                            .restaurantApprovalResponseAvroModelToRestaurantApprovalResponse(
+                                    restaurantApprovalResponseAvroModel)
+            );
+        } else if (OrderApprovalStatus.REJECTED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
+            log.info("Processing rejected order for order id: {}, with failure messages: {}",
+                    restaurantApprovalResponseAvroModel.getOrderId(),
+                    String.join(FAILURE_MESSAGE_DELIMITER, restaurantApprovalResponseAvroModel.getFailureMessages())
+            );
 
-                restaurantApprovalResponseMessageListener.orderRejected(
-                        orderMessagingDataMapper
-                                .restaurantApprovalResponseAvroModelToRestaurantApprovalResponse(
-                                        restaurantApprovalResponseAvroModel)
-                );
-            }
-        });
+            restaurantApprovalResponseMessageListener.orderRejected(
+                    orderMessagingDataMapper
+                            .restaurantApprovalResponseAvroModelToRestaurantApprovalResponse(
+                                    restaurantApprovalResponseAvroModel)
+            );
+        }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPaymentEventKafkaPublisher implements PaymentRequestMessagePublisher {
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaProducer<String, PaymentRequestAvroModel> kafkaProducer;
+    private final KafkaMessageHelper kafkaMessageHelper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(
+            OrderPaymentOutboxMessage orderPaymentOutboxMessage,
+            BiConsumer<OrderPaymentOutboxMessage, OutboxStatus> outboxCallback
+    ) {
+        String sagaId = orderPaymentOutboxMessage.getSagaId().toString();
+
+        try {
+            OrderPaymentEventPayload orderPaymentEventPayload = getOrderPaymentEventPayload(orderPaymentOutboxMessage);
+            String orderId = orderPaymentEventPayload.getOrderId();
+            log.info("Received OrderPaymentOutboxMessage for order id: {} and saga id: {}", orderId, sagaId);
+
+            PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper
+                    .orderPaymentEventToPaymentRequestAvroModel(sagaId, orderPaymentEventPayload);
+
+            CompletableFuture<SendResult<String, PaymentRequestAvroModel>> kafkaCallback =
+                    kafkaMessageHelper.getKafkaCallback(
+                            orderServiceConfigData.getPaymentRequestTopicName(),
+                            paymentRequestAvroModel,
+                            orderId,
+                            PaymentRequestAvroModel.class.getSimpleName()
+                    );
+            kafkaCallback.whenComplete((result, ex) -> outboxCallback.accept(
+                    orderPaymentOutboxMessage,
+                    Objects.isNull(ex) ? OutboxStatus.COMPLETED : OutboxStatus.FAILED
+            ));
+
+            kafkaProducer.send(
+                    orderServiceConfigData.getPaymentRequestTopicName(),
+                    sagaId,
+                    paymentRequestAvroModel,
+                    kafkaCallback
+            );
+
+            log.info("OrderPaymentEventPayload sent to Kafka for order id: {} and saga id: {}", orderId, sagaId);
+        } catch (Exception e) {
+            log.error("Error while sending OrderPaymentEventPayload to kafka with outbox message id: {} " +
+                    "and saga id: {}, error: {}", orderPaymentOutboxMessage.getId(), sagaId, e.getMessage(), e);
+            outboxCallback.accept(orderPaymentOutboxMessage, OutboxStatus.FAILED);
+        }
+    }
+
+    private OrderPaymentEventPayload getOrderPaymentEventPayload(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        try {
+            return objectMapper.readValue(orderPaymentOutboxMessage.getPayload(), OrderPaymentEventPayload.class);
+        } catch (JsonProcessingException e) {
+            log.error("Could not read OrderPaymentEventPayload object!", e);
+            throw new OrderDomainException("Could not read OrderPaymentEventPayload object!", e);
+        }
+    }
+}
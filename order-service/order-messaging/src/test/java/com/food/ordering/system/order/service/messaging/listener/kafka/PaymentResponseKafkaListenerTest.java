@@ -0,0 +1,83 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.batch.KafkaBatchProcessor;
+import com.food.ordering.system.kafka.consumer.tracing.KafkaConsumerTracing;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class PaymentResponseKafkaListenerTest {
+
+    private final PaymentResponseMessageListener paymentResponseMessageListener =
+            mock(PaymentResponseMessageListener.class);
+    private final OrderMessagingDataMapper orderMessagingDataMapper = mock(OrderMessagingDataMapper.class);
+    private final KafkaBatchProcessor kafkaBatchProcessor = mock(KafkaBatchProcessor.class);
+    private final KafkaConsumerTracing kafkaConsumerTracing = mock(KafkaConsumerTracing.class);
+    private final PaymentResponseKafkaListener paymentResponseKafkaListener = new PaymentResponseKafkaListener(
+            paymentResponseMessageListener, orderMessagingDataMapper, kafkaBatchProcessor, kafkaConsumerTracing);
+
+    private final PaymentResponseAvroModel completedPayment = paymentResponseAvroModel(PaymentStatus.COMPLETED);
+    private final PaymentResponseAvroModel failedPayment = paymentResponseAvroModel(PaymentStatus.FAILED);
+    private final List<PaymentResponseAvroModel> messages = List.of(completedPayment, failedPayment);
+
+    @BeforeEach
+    public void init() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return null;
+        }).when(kafkaConsumerTracing).inBatchSpans(any(), any(), any(), any());
+        when(orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(any()))
+                .thenAnswer(invocation -> PaymentResponse.builder().build());
+    }
+
+    @Test
+    public void testProcessedBatchIsNotRetriedIndividually() {
+        receive();
+
+        verify(paymentResponseMessageListener).paymentResponsesReceived(anyList());
+        verifyNoInteractions(kafkaBatchProcessor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFailedBatchFallsBackToPerMessageProcessing() {
+        doThrow(new IllegalStateException("Order not found"))
+                .when(paymentResponseMessageListener).paymentResponsesReceived(anyList());
+
+        receive();
+
+        ArgumentCaptor<Consumer<PaymentResponseAvroModel>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(kafkaBatchProcessor).process(anyString(), eq(messages), anyList(), anyList(), anyList(), anyList(),
+                handler.capture());
+        handler.getValue().accept(completedPayment);
+        handler.getValue().accept(failedPayment);
+        verify(paymentResponseMessageListener).paymentCompleted(any());
+        verify(paymentResponseMessageListener).paymentCanceled(any());
+    }
+
+    private void receive() {
+        paymentResponseKafkaListener.receive(messages, List.of("key-1", "key-2"), List.of(0, 0), List.of(0L, 1L),
+                List.of(Map.of(), Map.of()));
+    }
+
+    private PaymentResponseAvroModel paymentResponseAvroModel(PaymentStatus paymentStatus) {
+        PaymentResponseAvroModel paymentResponseAvroModel = mock(PaymentResponseAvroModel.class);
+        when(paymentResponseAvroModel.getPaymentStatus()).thenReturn(paymentStatus);
+        return paymentResponseAvroModel;
+    }
+}
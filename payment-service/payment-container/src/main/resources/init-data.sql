@@ -12,3 +12,8 @@ INSERT INTO payment.credit_entry(id, customer_id, total_credit_amount)
 	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb22', 'd215b5f8-0249-4dc5-89a3-51fd148cfb43', 100.00);
 INSERT INTO payment.credit_history(id, customer_id, amount, type)
 	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb26', 'd215b5f8-0249-4dc5-89a3-51fd148cfb43', 100.00, 'CREDIT');
+
+INSERT INTO payment.credit_ledger(customer_id, total_credit_amount, total_debit_amount)
+	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb41', 700.00, 200.00);
+INSERT INTO payment.credit_ledger(customer_id, total_credit_amount, total_debit_amount)
+	VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb43', 100.00, 0.00);
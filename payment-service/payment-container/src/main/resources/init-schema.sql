@@ -21,6 +21,10 @@ CREATE TABLE "payment".payments
     CONSTRAINT payments_pkey PRIMARY KEY (id)
 );
 
+CREATE UNIQUE INDEX "payments_order_id"
+    ON "payment".payments
+        (order_id);
+
 DROP TABLE IF EXISTS "payment".credit_entry CASCADE;
 
 CREATE TABLE "payment".credit_entry
@@ -28,9 +32,14 @@ CREATE TABLE "payment".credit_entry
     id uuid NOT NULL,
     customer_id uuid NOT NULL,
     total_credit_amount numeric(10,2) NOT NULL,
+    version integer NOT NULL DEFAULT 0,
     CONSTRAINT credit_entry_pkey PRIMARY KEY (id)
 );
 
+CREATE UNIQUE INDEX "credit_entry_customer_id"
+    ON "payment".credit_entry
+        (customer_id);
+
 DROP TYPE IF EXISTS transaction_type;
 
 CREATE TYPE transaction_type AS ENUM ('DEBIT', 'CREDIT');
@@ -43,5 +52,73 @@ CREATE TABLE "payment".credit_history
     customer_id uuid NOT NULL,
     amount numeric(10,2) NOT NULL,
     type transaction_type NOT NULL,
-    CONSTRAINT credit_history_pkey PRIMARY KEY (id)
-);
\ No newline at end of file
+    CONSTRAINT credit_history_pkey PRIMARY KEY (id, customer_id)
+) PARTITION BY HASH (customer_id);
+
+CREATE TABLE "payment".credit_history_p0
+    PARTITION OF "payment".credit_history
+    FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+
+CREATE TABLE "payment".credit_history_p1
+    PARTITION OF "payment".credit_history
+    FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+
+CREATE TABLE "payment".credit_history_p2
+    PARTITION OF "payment".credit_history
+    FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+
+CREATE TABLE "payment".credit_history_p3
+    PARTITION OF "payment".credit_history
+    FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+
+CREATE TABLE "payment".credit_history_p4
+    PARTITION OF "payment".credit_history
+    FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+
+CREATE TABLE "payment".credit_history_p5
+    PARTITION OF "payment".credit_history
+    FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+
+CREATE TABLE "payment".credit_history_p6
+    PARTITION OF "payment".credit_history
+    FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+
+CREATE TABLE "payment".credit_history_p7
+    PARTITION OF "payment".credit_history
+    FOR VALUES WITH (MODULUS 8, REMAINDER 7);
+
+CREATE INDEX "credit_history_customer_id"
+    ON "payment".credit_history
+        (customer_id);
+
+DROP TABLE IF EXISTS "payment".credit_ledger CASCADE;
+
+CREATE TABLE "payment".credit_ledger
+(
+    customer_id uuid NOT NULL,
+    total_credit_amount numeric(12,2) NOT NULL,
+    total_debit_amount numeric(12,2) NOT NULL,
+    CONSTRAINT credit_ledger_pkey PRIMARY KEY (customer_id)
+);
+
+DROP TYPE IF EXISTS payment_order_status;
+
+CREATE TYPE payment_order_status AS ENUM ('PENDING', 'CANCELLED');
+
+DROP TABLE IF EXISTS "payment".processed_messages CASCADE;
+
+-- One row per handled payment request; the primary key rejects redelivered requests, the outcome is republished for them
+CREATE TABLE "payment".processed_messages
+(
+    saga_id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    payment_order_status payment_order_status NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    payment_status payment_status,
+    failure_messages character varying COLLATE pg_catalog."default",
+    CONSTRAINT processed_messages_pkey PRIMARY KEY (saga_id, order_id, payment_order_status)
+);
+
+CREATE INDEX "processed_messages_processed_at"
+    ON "payment".processed_messages
+        (processed_at);
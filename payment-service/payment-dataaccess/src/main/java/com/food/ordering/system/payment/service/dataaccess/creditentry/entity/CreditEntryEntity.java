@@ -5,6 +5,7 @@ import lombok.*;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.UUID;
@@ -22,6 +23,9 @@ public class CreditEntryEntity {
     private UUID id;
     private UUID customerId;
     private BigDecimal totalCreditAmount;
+    // Backstop for concurrent debits of one customer that bypass the per-customer lock, e.g. on another instance
+    @Version
+    private int version;
 
     @Override
     public boolean equals(Object o) {
@@ -0,0 +1,53 @@
+package com.food.ordering.system.payment.service.dataaccess.creditledger.adapter;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.mapper.CreditLedgerDataAccessMapper;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.repository.CreditLedgerJpaRepository;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+public class CreditLedgerRepositoryImpl implements CreditLedgerRepository {
+
+    private final CreditLedgerJpaRepository creditLedgerJpaRepository;
+    private final CreditLedgerDataAccessMapper creditLedgerDataAccessMapper;
+
+    public CreditLedgerRepositoryImpl(CreditLedgerJpaRepository creditLedgerJpaRepository,
+                                      CreditLedgerDataAccessMapper creditLedgerDataAccessMapper) {
+        this.creditLedgerJpaRepository = creditLedgerJpaRepository;
+        this.creditLedgerDataAccessMapper = creditLedgerDataAccessMapper;
+    }
+
+    @Override
+    public CreditLedger save(CreditLedger creditLedger) {
+        return creditLedgerDataAccessMapper
+                .creditLedgerEntityToCreditLedger(creditLedgerJpaRepository
+                        .save(creditLedgerDataAccessMapper.creditLedgerToCreditLedgerEntity(creditLedger)));
+    }
+
+    @Override
+    public Optional<CreditLedger> findByCustomerId(CustomerId customerId) {
+        return creditLedgerJpaRepository
+                .findById(customerId.getValue())
+                .map(creditLedgerDataAccessMapper::creditLedgerEntityToCreditLedger);
+    }
+
+    @Override
+    public Optional<CreditLedger> findByCustomerIdForUpdate(CustomerId customerId) {
+        return creditLedgerJpaRepository
+                .findByCustomerIdForUpdate(customerId.getValue())
+                .map(creditLedgerDataAccessMapper::creditLedgerEntityToCreditLedger);
+    }
+
+    @Override
+    public List<CustomerId> findCustomerIdsAfter(CustomerId customerId, int limit) {
+        return creditLedgerJpaRepository.findCustomerIdsAfter(customerId.getValue(), limit).stream()
+                .map(CustomerId::new)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.payment.service.dataaccess.creditledger.entity;
+
+import lombok.*;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "credit_ledger")
+@Entity
+public class CreditLedgerEntity {
+
+    @Id
+    private UUID customerId;
+    private BigDecimal totalCreditAmount;
+    private BigDecimal totalDebitAmount;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CreditLedgerEntity that = (CreditLedgerEntity) o;
+        return customerId.equals(that.customerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerId);
+    }
+}
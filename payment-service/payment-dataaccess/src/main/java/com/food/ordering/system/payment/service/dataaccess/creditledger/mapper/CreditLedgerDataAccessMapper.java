@@ -0,0 +1,27 @@
+package com.food.ordering.system.payment.service.dataaccess.creditledger.mapper;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.payment.service.dataaccess.creditledger.entity.CreditLedgerEntity;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CreditLedgerDataAccessMapper {
+
+    public CreditLedger creditLedgerEntityToCreditLedger(CreditLedgerEntity creditLedgerEntity) {
+        return CreditLedger.builder()
+                .customerId(new CustomerId(creditLedgerEntity.getCustomerId()))
+                .totalCreditAmount(new Money(creditLedgerEntity.getTotalCreditAmount()))
+                .totalDebitAmount(new Money(creditLedgerEntity.getTotalDebitAmount()))
+                .build();
+    }
+
+    public CreditLedgerEntity creditLedgerToCreditLedgerEntity(CreditLedger creditLedger) {
+        return CreditLedgerEntity.builder()
+                .customerId(creditLedger.getId().getValue())
+                .totalCreditAmount(creditLedger.getTotalCreditAmount().getAmount())
+                .totalDebitAmount(creditLedger.getTotalDebitAmount().getAmount())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.food.ordering.system.payment.service.dataaccess.creditledger.repository;
+
+import com.food.ordering.system.payment.service.dataaccess.creditledger.entity.CreditLedgerEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CreditLedgerJpaRepository extends JpaRepository<CreditLedgerEntity, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CreditLedgerEntity c WHERE c.customerId = :customerId")
+    Optional<CreditLedgerEntity> findByCustomerIdForUpdate(@Param("customerId") UUID customerId);
+
+    @Query(value = "SELECT customer_id FROM payment.credit_ledger " +
+            "WHERE customer_id > :customerId ORDER BY customer_id LIMIT :limit", nativeQuery = true)
+    List<UUID> findCustomerIdsAfter(@Param("customerId") UUID customerId, @Param("limit") int limit);
+}
@@ -0,0 +1,67 @@
+package com.food.ordering.system.payment.service.dataaccess.processedmessage.adapter;
+
+import com.food.ordering.system.payment.service.dataaccess.processedmessage.entity.ProcessedMessageEntityId;
+import com.food.ordering.system.payment.service.dataaccess.processedmessage.repository.ProcessedMessageJpaRepository;
+import com.food.ordering.system.payment.service.domain.dto.ProcessedMessageKey;
+import com.food.ordering.system.payment.service.domain.dto.ProcessedMessageOutcome;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.food.ordering.system.domain.DomainConstants.FAILURE_MESSAGE_DELIMITER;
+
+@Component
+public class ProcessedMessageRepositoryImpl implements ProcessedMessageRepository {
+
+    private final ProcessedMessageJpaRepository processedMessageJpaRepository;
+
+    public ProcessedMessageRepositoryImpl(ProcessedMessageJpaRepository processedMessageJpaRepository) {
+        this.processedMessageJpaRepository = processedMessageJpaRepository;
+    }
+
+    @Override
+    public boolean insertIfAbsent(ProcessedMessageKey processedMessageKey, ZonedDateTime processedAt) {
+        return processedMessageJpaRepository.insertIfAbsent(
+                processedMessageKey.sagaId(),
+                processedMessageKey.orderId(),
+                processedMessageKey.paymentOrderStatus().name(),
+                processedAt) == 1;
+    }
+
+    @Override
+    public void updateOutcome(ProcessedMessageKey processedMessageKey,
+                              ProcessedMessageOutcome processedMessageOutcome) {
+        processedMessageJpaRepository.updateOutcome(
+                processedMessageKey.sagaId(),
+                processedMessageKey.orderId(),
+                processedMessageKey.paymentOrderStatus().name(),
+                processedMessageOutcome.paymentStatus().name(),
+                String.join(FAILURE_MESSAGE_DELIMITER, processedMessageOutcome.failureMessages()));
+    }
+
+    @Override
+    public Optional<ProcessedMessageOutcome> findOutcome(ProcessedMessageKey processedMessageKey) {
+        return processedMessageJpaRepository.findById(ProcessedMessageEntityId.builder()
+                        .sagaId(processedMessageKey.sagaId())
+                        .orderId(processedMessageKey.orderId())
+                        .paymentOrderStatus(processedMessageKey.paymentOrderStatus())
+                        .build())
+                .filter(processedMessageEntity -> Objects.nonNull(processedMessageEntity.getPaymentStatus()))
+                .map(processedMessageEntity -> new ProcessedMessageOutcome(
+                        processedMessageEntity.getPaymentStatus(),
+                        Objects.isNull(processedMessageEntity.getFailureMessages())
+                                || processedMessageEntity.getFailureMessages().isEmpty() ? new ArrayList<>() :
+                                new ArrayList<>(Arrays.asList(processedMessageEntity.getFailureMessages()
+                                        .split(FAILURE_MESSAGE_DELIMITER)))));
+    }
+
+    @Override
+    public int deleteChunkProcessedBefore(ZonedDateTime processedAt, int chunkSize) {
+        return processedMessageJpaRepository.deleteChunkByProcessedAtBefore(processedAt, chunkSize);
+    }
+}
@@ -0,0 +1,47 @@
+package com.food.ordering.system.payment.service.dataaccess.processedmessage.entity;
+
+import com.food.ordering.system.domain.vo.PaymentOrderStatus;
+import com.food.ordering.system.domain.vo.PaymentStatus;
+import lombok.*;
+
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ProcessedMessageEntityId.class)
+@Table(name = "processed_messages")
+@Entity
+public class ProcessedMessageEntity {
+
+    @Id
+    private UUID sagaId;
+    @Id
+    private UUID orderId;
+    @Id
+    @Enumerated(EnumType.STRING)
+    private PaymentOrderStatus paymentOrderStatus;
+    private ZonedDateTime processedAt;
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus paymentStatus;
+    private String failureMessages;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProcessedMessageEntity that = (ProcessedMessageEntity) o;
+        return sagaId.equals(that.sagaId) && orderId.equals(that.orderId)
+                && paymentOrderStatus == that.paymentOrderStatus;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sagaId, orderId, paymentOrderStatus);
+    }
+}
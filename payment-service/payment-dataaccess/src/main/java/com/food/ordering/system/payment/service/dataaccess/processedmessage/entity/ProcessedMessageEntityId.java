@@ -0,0 +1,38 @@
+package com.food.ordering.system.payment.service.dataaccess.processedmessage.entity;
+
+import com.food.ordering.system.domain.vo.PaymentOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedMessageEntityId implements Serializable {
+
+    private UUID sagaId;
+    private UUID orderId;
+    private PaymentOrderStatus paymentOrderStatus;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProcessedMessageEntityId that = (ProcessedMessageEntityId) o;
+        return sagaId.equals(that.sagaId) && orderId.equals(that.orderId)
+                && paymentOrderStatus == that.paymentOrderStatus;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sagaId, orderId, paymentOrderStatus);
+    }
+}
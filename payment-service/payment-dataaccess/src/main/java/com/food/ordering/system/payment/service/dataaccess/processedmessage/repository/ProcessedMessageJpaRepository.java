@@ -0,0 +1,54 @@
+package com.food.ordering.system.payment.service.dataaccess.processedmessage.repository;
+
+import com.food.ordering.system.payment.service.dataaccess.processedmessage.entity.ProcessedMessageEntity;
+import com.food.ordering.system.payment.service.dataaccess.processedmessage.entity.ProcessedMessageEntityId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Repository
+public interface ProcessedMessageJpaRepository extends JpaRepository<ProcessedMessageEntity, ProcessedMessageEntityId> {
+
+    // A single statement both checks and claims the message, no select is needed
+    @Modifying
+    @Query(value = "INSERT INTO payment.processed_messages(saga_id, order_id, payment_order_status, processed_at) " +
+            "VALUES (:sagaId, :orderId, :paymentOrderStatus, :processedAt) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(
+            @Param("sagaId") UUID sagaId,
+            @Param("orderId") UUID orderId,
+            @Param("paymentOrderStatus") String paymentOrderStatus,
+            @Param("processedAt") ZonedDateTime processedAt
+    );
+
+    // The claiming insert runs before the payment is processed, its outcome is recorded in the same transaction
+    @Modifying
+    @Query(value = "UPDATE payment.processed_messages " +
+            "SET payment_status = :paymentStatus, failure_messages = :failureMessages " +
+            "WHERE saga_id = :sagaId AND order_id = :orderId AND payment_order_status = :paymentOrderStatus",
+            nativeQuery = true)
+    int updateOutcome(
+            @Param("sagaId") UUID sagaId,
+            @Param("orderId") UUID orderId,
+            @Param("paymentOrderStatus") String paymentOrderStatus,
+            @Param("paymentStatus") String paymentStatus,
+            @Param("failureMessages") String failureMessages
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM payment.processed_messages " +
+            "WHERE (saga_id, order_id, payment_order_status) IN (" +
+            "SELECT saga_id, order_id, payment_order_status FROM payment.processed_messages " +
+            "WHERE processed_at < :processedAt " +
+            "LIMIT :chunkSize " +
+            "FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteChunkByProcessedAtBefore(
+            @Param("processedAt") ZonedDateTime processedAt,
+            @Param("chunkSize") int chunkSize
+    );
+}
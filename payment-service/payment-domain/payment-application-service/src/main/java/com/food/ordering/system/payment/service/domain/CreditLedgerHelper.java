@@ -0,0 +1,53 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreditLedgerHelper {
+
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final CreditHistoryRepository creditHistoryRepository;
+
+    public CreditLedger buildCreditLedgerFromHistory(CustomerId customerId) {
+        CreditLedger creditLedger = CreditLedger.empty(customerId);
+        creditHistoryRepository.findByCustomerId(customerId.getValue())
+                .orElse(List.of())
+                .forEach(creditLedger::addCreditHistory);
+        return creditLedger;
+    }
+
+    @Transactional
+    public boolean reconcileCreditLedger(CustomerId customerId) {
+        // The ledger row is locked first, payments take the same lock before appending history,
+        // so none can land while the ledger is recomputed.
+        return creditLedgerRepository.findByCustomerIdForUpdate(customerId)
+                .map(creditLedger -> {
+                    CreditLedger recordedCreditLedger = buildCreditLedgerFromHistory(customerId);
+                    if (creditLedger.hasSameTotals(recordedCreditLedger)) {
+                        return true;
+                    }
+                    log.error("Credit ledger for customer: {} is out of sync with credit history, " +
+                                    "ledger credit: {} debit: {}, history credit: {} debit: {}",
+                            customerId.getValue(),
+                            creditLedger.getTotalCreditAmount().getAmount(),
+                            creditLedger.getTotalDebitAmount().getAmount(),
+                            recordedCreditLedger.getTotalCreditAmount().getAmount(),
+                            recordedCreditLedger.getTotalDebitAmount().getAmount());
+                    creditLedgerRepository.save(recordedCreditLedger);
+                    return false;
+                })
+                .orElse(true);
+    }
+}
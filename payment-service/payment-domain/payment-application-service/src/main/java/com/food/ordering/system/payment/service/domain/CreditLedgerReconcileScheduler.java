@@ -0,0 +1,48 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreditLedgerReconcileScheduler {
+
+    private final CreditLedgerHelper creditLedgerHelper;
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    @Scheduled(
+            fixedDelayString = "${payment-service.credit-ledger-reconcile-fixed-rate}",
+            initialDelayString = "${payment-service.credit-ledger-reconcile-initial-delay}"
+    )
+    public void reconcileCreditLedgers() {
+        int chunkSize = paymentServiceConfigData.getCreditLedgerReconcileChunkSize();
+        CustomerId lastCustomerId = new CustomerId(new UUID(0L, 0L));
+        int checked = 0;
+        int repaired = 0;
+        List<CustomerId> customerIds;
+        do {
+            customerIds = creditLedgerRepository.findCustomerIdsAfter(lastCustomerId, chunkSize);
+            for (CustomerId customerId : customerIds) {
+                if (!creditLedgerHelper.reconcileCreditLedger(customerId)) {
+                    repaired++;
+                }
+                checked++;
+            }
+            if (!customerIds.isEmpty()) {
+                lastCustomerId = customerIds.getLast();
+            }
+        } while (customerIds.size() == chunkSize);
+
+        log.info("Credit ledger reconciliation finished, {} ledgers checked, {} repaired", checked, repaired);
+    }
+}
@@ -0,0 +1,40 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes payment processing per customer within this instance, so two requests of one customer no longer race on
+ * its credit entry when the batch processor runs them in parallel. Customers are hashed onto a fixed set of stripes,
+ * ReentrantLock is used rather than synchronized to keep virtual threads from pinning while the transaction runs.
+ */
+@Component
+public class CustomerPaymentLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public CustomerPaymentLocks(PaymentServiceConfigData paymentServiceConfigData) {
+        this.stripes = new ReentrantLock[paymentServiceConfigData.getCustomerLockStripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T callWithCustomerLock(String customerId, Supplier<T> supplier) {
+        ReentrantLock lock = stripeOf(customerId);
+        lock.lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeOf(String customerId) {
+        int hash = customerId.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+}
@@ -1,10 +1,15 @@
 package com.food.ordering.system.payment.service.domain;
 
 import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.payment.service.domain.dto.ProcessedMessageOutcome;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
 import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
@@ -13,16 +18,22 @@ import com.food.ordering.system.payment.service.domain.ports.output.message.publ
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static com.food.ordering.system.domain.DomainConstants.ZONE_ID;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -33,54 +44,100 @@ public class PaymentRequestHelper {
     private final PaymentRepository paymentRepository;
     private final CreditEntryRepository creditEntryRepository;
     private final CreditHistoryRepository creditHistoryRepository;
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final CreditLedgerHelper creditLedgerHelper;
+    private final ProcessedMessageHelper processedMessageHelper;
     private final PaymentCompletedMessagePublisher paymentCompletedMessagePublisher;
     private final PaymentCancelledMessagePublisher paymentCancelledEventPublisher;
     private final PaymentFailedMessagePublisher paymentFailedEventPublisher;
 
+    // A redelivered request must not debit the customer again, it is answered with the recorded outcome instead
     @Transactional
-    public PaymentEvent persistPayment(PaymentRequest paymentRequest) {
+    public Optional<PaymentEvent> persistPayment(PaymentRequest paymentRequest) {
         log.info("Received payment complete event for order id: {}", paymentRequest.getOrderId());
+        if (isAlreadyProcessed(paymentRequest)) {
+            return replayPaymentEvent(paymentRequest);
+        }
 
         Payment payment = paymentDataMapper.paymentRequestToPayment(paymentRequest);
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistories(payment.getCustomerId());
+        CreditLedger creditLedger = getCreditLedger(payment.getCustomerId());
+        List<CreditHistory> creditHistories = new ArrayList<>();
         List<String> failureMessages = new ArrayList<>();
 
         PaymentEvent paymentEvent = paymentDomainService
                 .validateAndInitializePayment(
                         payment,
                         creditEntry,
+                        creditLedger,
                         creditHistories,
                         failureMessages,
                         paymentCompletedMessagePublisher,
                         paymentFailedEventPublisher
                 );
 
-        persistDBObjects(payment, creditEntry, creditHistories, failureMessages);
-        return paymentEvent;
+        persistDBObjects(payment, creditEntry, creditLedger, creditHistories, failureMessages);
+        processedMessageHelper.recordOutcome(paymentRequest, paymentEvent);
+        return Optional.of(paymentEvent);
     }
 
     @Transactional
-    public PaymentEvent persistCancelPayment(PaymentRequest paymentRequest) {
+    public Optional<PaymentEvent> persistCancelPayment(PaymentRequest paymentRequest) {
         log.info("Received payment rollback event for order id: {}", paymentRequest.getOrderId());
+        if (isAlreadyProcessed(paymentRequest)) {
+            return replayPaymentEvent(paymentRequest);
+        }
 
         Payment previousPayment = getPreviousPayment(paymentRequest);
         CreditEntry creditEntry = getCreditEntry(previousPayment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistories(previousPayment.getCustomerId());
+        CreditLedger creditLedger = getCreditLedger(previousPayment.getCustomerId());
+        List<CreditHistory> creditHistories = new ArrayList<>();
         List<String> failureMessages = new ArrayList<>();
 
         PaymentEvent paymentEvent = paymentDomainService
                 .validateAndCancelPayment(
                         previousPayment,
                         creditEntry,
+                        creditLedger,
                         creditHistories,
                         failureMessages,
                         paymentCancelledEventPublisher,
                         paymentFailedEventPublisher
                 );
 
-        persistDBObjects(previousPayment, creditEntry, creditHistories, failureMessages);
-        return paymentEvent;
+        persistDBObjects(previousPayment, creditEntry, creditLedger, creditHistories, failureMessages);
+        processedMessageHelper.recordOutcome(paymentRequest, paymentEvent);
+        return Optional.of(paymentEvent);
+    }
+
+    // Claims the request before the credit entry or history is loaded
+    private boolean isAlreadyProcessed(PaymentRequest paymentRequest) {
+        if (processedMessageHelper.markProcessed(paymentRequest)) {
+            return false;
+        }
+        log.info("Payment request with status {} of saga: {} for order id: {} was already processed, " +
+                        "republishing its outcome",
+                paymentRequest.getPaymentOrderStatus(), paymentRequest.getSagaId(), paymentRequest.getOrderId());
+        return true;
+    }
+
+    // Rebuilds the event the request was answered with; the payment itself may have moved on since, e.g. cancelled
+    private Optional<PaymentEvent> replayPaymentEvent(PaymentRequest paymentRequest) {
+        Optional<ProcessedMessageOutcome> processedMessageOutcome = processedMessageHelper.findOutcome(paymentRequest);
+        if (processedMessageOutcome.isEmpty()) {
+            log.warn("No outcome recorded for payment request with status {} for order id: {}, nothing to republish",
+                    paymentRequest.getPaymentOrderStatus(), paymentRequest.getOrderId());
+            return Optional.empty();
+        }
+        Payment payment = getPreviousPayment(paymentRequest);
+        payment.updateStatus(processedMessageOutcome.get().paymentStatus());
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(ZONE_ID));
+        return Optional.of(switch (processedMessageOutcome.get().paymentStatus()) {
+            case COMPLETED -> new PaymentCompletedEvent(payment, now, paymentCompletedMessagePublisher);
+            case CANCELLED -> new PaymentCancelledEvent(payment, now, paymentCancelledEventPublisher);
+            case FAILED -> new PaymentFailedEvent(payment, now, processedMessageOutcome.get().failureMessages(),
+                    paymentFailedEventPublisher);
+        });
     }
 
     private CreditEntry getCreditEntry(CustomerId customerId) {
@@ -92,12 +149,13 @@ public class PaymentRequestHelper {
                 });
     }
 
-    private List<CreditHistory> getCreditHistories(CustomerId customerId) {
-        return creditHistoryRepository.findByCustomerId(customerId.getValue())
-                .orElseThrow(() -> {
-                    log.error("Could not find credit histories for customer: {}", customerId.getValue());
-                    return new PaymentApplicationServiceException("Could not find credit histories for customer: "
-                            + customerId.getValue());
+    // Locks the ledger row until commit, so a concurrent reconcile cannot overwrite this payment's update
+    private CreditLedger getCreditLedger(CustomerId customerId) {
+        return creditLedgerRepository.findByCustomerIdForUpdate(customerId)
+                .orElseGet(() -> {
+                    log.info("No credit ledger found for customer: {}, building it from credit history",
+                            customerId.getValue());
+                    return creditLedgerHelper.buildCreditLedgerFromHistory(customerId);
                 });
     }
 
@@ -113,6 +171,7 @@ public class PaymentRequestHelper {
     private void persistDBObjects(
             Payment payment,
             CreditEntry creditEntry,
+            CreditLedger creditLedger,
             List<CreditHistory> creditHistories,
             List<String> failureMessages) {
 
@@ -120,6 +179,7 @@ public class PaymentRequestHelper {
         if (failureMessages.isEmpty()) {
             creditEntryRepository.save(creditEntry);
             creditHistoryRepository.save(creditHistories.getLast());
+            creditLedgerRepository.save(creditLedger);
         }
     }
 }
@@ -3,27 +3,57 @@ package com.food.ordering.system.payment.service.domain;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
+import com.food.ordering.system.saga.SagaStepObservation;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentRequestMessageListenerImpl implements PaymentRequestMessageListener {
 
+    private static final String SAGA_NAME = "payment";
+
     private final PaymentRequestHelper paymentRequestHelper;
+    private final ProcessedMessageHelper processedMessageHelper;
+    private final CustomerPaymentLocks customerPaymentLocks;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     public void cancelPayment(PaymentRequest paymentRequest) {
-        PaymentEvent paymentEvent = paymentRequestHelper.persistCancelPayment(paymentRequest);
-        fireEvent(paymentEvent);
+        process("cancel", paymentRequest, paymentRequestHelper::persistCancelPayment);
     }
 
     @Override
     public void completePayment(PaymentRequest paymentRequest) {
-        PaymentEvent paymentEvent = paymentRequestHelper.persistPayment(paymentRequest);
-        fireEvent(paymentEvent);
+        process("complete", paymentRequest, paymentRequestHelper::persistPayment);
+    }
+
+    // Recently processed requests are answered again before a transaction is even opened
+    private void process(String step,
+                         PaymentRequest paymentRequest,
+                         Function<PaymentRequest, Optional<PaymentEvent>> persist) {
+        Optional<PaymentEvent> recentPaymentEvent = processedMessageHelper.getRecentlyProcessed(paymentRequest);
+        if (recentPaymentEvent.isPresent()) {
+            log.info("Payment request with status {} for order id: {} was recently processed, republishing its outcome",
+                    paymentRequest.getPaymentOrderStatus(), paymentRequest.getOrderId());
+            fireEvent(recentPaymentEvent.get());
+            return;
+        }
+        // The lock is held until the transaction committed, so the next payment of the customer reads its new credit
+        Optional<PaymentEvent> paymentEvent = customerPaymentLocks.callWithCustomerLock(paymentRequest.getCustomerId(),
+                () -> sagaStep(step, paymentRequest).observe(() -> persist.apply(paymentRequest)));
+        paymentEvent.ifPresent(event -> {
+            processedMessageHelper.rememberProcessed(paymentRequest, event);
+            fireEvent(event);
+        });
     }
 
     private void fireEvent(PaymentEvent paymentEvent) {
@@ -34,4 +64,9 @@ public class PaymentRequestMessageListenerImpl implements PaymentRequestMessageL
 
         paymentEvent.fire();
     }
+
+    private Observation sagaStep(String step, PaymentRequest paymentRequest) {
+        return SagaStepObservation.of(observationRegistry, SAGA_NAME, step, paymentRequest.getOrderId())
+                .highCardinalityKeyValue("saga.id", Objects.requireNonNullElse(paymentRequest.getSagaId(), ""));
+    }
 }
@@ -0,0 +1,80 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.dto.ProcessedMessageKey;
+import com.food.ordering.system.payment.service.domain.dto.ProcessedMessageOutcome;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static com.food.ordering.system.domain.DomainConstants.ZONE_ID;
+
+/**
+ * Deduplicates payment requests by saga id, order id and payment order status. The processed_messages table is the
+ * source of truth and is written in the same transaction as the payment, together with the outcome a redelivery is
+ * answered with. The cache keeps the events of recently committed requests, so their redeliveries are answered
+ * without a transaction.
+ */
+@Slf4j
+@Component
+public class ProcessedMessageHelper {
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final Cache<ProcessedMessageKey, PaymentEvent> recentlyProcessed;
+
+    public ProcessedMessageHelper(ProcessedMessageRepository processedMessageRepository,
+                                  PaymentServiceConfigData paymentServiceConfigData,
+                                  MeterRegistry meterRegistry) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.recentlyProcessed = Caffeine.newBuilder()
+                .maximumSize(paymentServiceConfigData.getProcessedMessageCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(
+                        paymentServiceConfigData.getProcessedMessageCacheExpireAfterWriteMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recentlyProcessed, "payment.processed.message");
+    }
+
+    public Optional<PaymentEvent> getRecentlyProcessed(PaymentRequest paymentRequest) {
+        return Optional.ofNullable(recentlyProcessed.getIfPresent(ProcessedMessageKey.of(paymentRequest)));
+    }
+
+    // Must run inside the payment transaction; a concurrent duplicate blocks on the primary key until it commits
+    public boolean markProcessed(PaymentRequest paymentRequest) {
+        return processedMessageRepository.insertIfAbsent(ProcessedMessageKey.of(paymentRequest),
+                ZonedDateTime.now(ZoneId.of(ZONE_ID)));
+    }
+
+    // Must run inside the payment transaction that claimed the request
+    public void recordOutcome(PaymentRequest paymentRequest, PaymentEvent paymentEvent) {
+        processedMessageRepository.updateOutcome(ProcessedMessageKey.of(paymentRequest),
+                new ProcessedMessageOutcome(paymentEvent.getPayment().getPaymentStatus(),
+                        paymentEvent.getFailureMessages()));
+    }
+
+    public Optional<ProcessedMessageOutcome> findOutcome(PaymentRequest paymentRequest) {
+        return processedMessageRepository.findOutcome(ProcessedMessageKey.of(paymentRequest));
+    }
+
+    // Call only after the payment transaction committed
+    public void rememberProcessed(PaymentRequest paymentRequest, PaymentEvent paymentEvent) {
+        recentlyProcessed.put(ProcessedMessageKey.of(paymentRequest), paymentEvent);
+    }
+
+    @Transactional
+    public int deleteProcessedMessagesChunk(ZonedDateTime processedBefore, int chunkSize) {
+        return processedMessageRepository.deleteChunkProcessedBefore(processedBefore, chunkSize);
+    }
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.domain.DomainConstants.ZONE_ID;
+
+@Slf4j
+@Component
+public class ProcessedMessagePurgeScheduler {
+
+    private final ProcessedMessageHelper processedMessageHelper;
+    private final PaymentServiceConfigData paymentServiceConfigData;
+    private final Counter purgedRowsCounter;
+
+    public ProcessedMessagePurgeScheduler(ProcessedMessageHelper processedMessageHelper,
+                                          PaymentServiceConfigData paymentServiceConfigData,
+                                          MeterRegistry meterRegistry) {
+        this.processedMessageHelper = processedMessageHelper;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        this.purgedRowsCounter = Counter.builder("processed.message.purged.rows")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${payment-service.processed-message-purge-fixed-rate}",
+            initialDelayString = "${payment-service.processed-message-purge-fixed-rate}"
+    )
+    public void purgeProcessedMessages() {
+        ZonedDateTime processedBefore = ZonedDateTime.now(ZoneId.of(ZONE_ID))
+                .minus(Duration.ofMillis(paymentServiceConfigData.getProcessedMessageRetentionMs()));
+        int chunkSize = paymentServiceConfigData.getProcessedMessagePurgeChunkSize();
+        int purged = 0;
+        int deleted;
+        // Each chunk commits on its own so a large backlog never holds locks for the whole purge
+        do {
+            deleted = processedMessageHelper.deleteProcessedMessagesChunk(processedBefore, chunkSize);
+            purged += deleted;
+        } while (deleted == chunkSize);
+
+        purgedRowsCounter.increment(purged);
+        if (purged > 0) {
+            log.info("{} processed messages older than {} purged", purged, processedBefore);
+        }
+    }
+}
@@ -10,4 +10,10 @@ import org.springframework.context.annotation.Configuration;
 public class PaymentServiceConfigData {
     private String paymentRequestTopicName;
     private String paymentResponseTopicName;
+    private Integer creditLedgerReconcileChunkSize;
+    private Integer processedMessageCacheMaxSize;
+    private Long processedMessageCacheExpireAfterWriteMs;
+    private Long processedMessageRetentionMs;
+    private Integer processedMessagePurgeChunkSize;
+    private Integer customerLockStripes;
 }
@@ -0,0 +1,21 @@
+package com.food.ordering.system.payment.service.domain.dto;
+
+import com.food.ordering.system.domain.vo.PaymentOrderStatus;
+
+import java.util.Objects;
+import java.util.UUID;
+
+// The payment order status is part of the key, a saga sends both the payment and its cancellation for one order.
+// Requests sent without a saga id are keyed on order id and payment order status alone.
+public record ProcessedMessageKey(UUID sagaId, UUID orderId, PaymentOrderStatus paymentOrderStatus) {
+
+    public static final UUID NO_SAGA_ID = new UUID(0L, 0L);
+
+    public static ProcessedMessageKey of(PaymentRequest paymentRequest) {
+        return new ProcessedMessageKey(
+                Objects.isNull(paymentRequest.getSagaId()) || paymentRequest.getSagaId().isBlank()
+                        ? NO_SAGA_ID : UUID.fromString(paymentRequest.getSagaId()),
+                UUID.fromString(paymentRequest.getOrderId()),
+                paymentRequest.getPaymentOrderStatus());
+    }
+}
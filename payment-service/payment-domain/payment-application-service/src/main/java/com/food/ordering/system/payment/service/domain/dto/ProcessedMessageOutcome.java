@@ -0,0 +1,9 @@
+package com.food.ordering.system.payment.service.domain.dto;
+
+import com.food.ordering.system.domain.vo.PaymentStatus;
+
+import java.util.List;
+
+// What a processed payment request answered, so a redelivery can answer the same
+public record ProcessedMessageOutcome(PaymentStatus paymentStatus, List<String> failureMessages) {
+}
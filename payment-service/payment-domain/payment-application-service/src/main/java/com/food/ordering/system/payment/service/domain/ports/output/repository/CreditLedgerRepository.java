@@ -0,0 +1,17 @@
+package com.food.ordering.system.payment.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CreditLedgerRepository {
+    CreditLedger save(CreditLedger creditLedger);
+
+    Optional<CreditLedger> findByCustomerId(CustomerId customerId);
+
+    Optional<CreditLedger> findByCustomerIdForUpdate(CustomerId customerId);
+
+    List<CustomerId> findCustomerIdsAfter(CustomerId customerId, int limit);
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.payment.service.domain.ports.output.repository;
+
+import com.food.ordering.system.payment.service.domain.dto.ProcessedMessageKey;
+import com.food.ordering.system.payment.service.domain.dto.ProcessedMessageOutcome;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public interface ProcessedMessageRepository {
+
+    // False when the message was already processed
+    boolean insertIfAbsent(ProcessedMessageKey processedMessageKey, ZonedDateTime processedAt);
+
+    void updateOutcome(ProcessedMessageKey processedMessageKey, ProcessedMessageOutcome processedMessageOutcome);
+
+    // Empty when the message was not processed or its outcome is not recorded
+    Optional<ProcessedMessageOutcome> findOutcome(ProcessedMessageKey processedMessageKey);
+
+    int deleteChunkProcessedBefore(ZonedDateTime processedAt, int chunkSize);
+}
@@ -0,0 +1,125 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomerPaymentLocksTest {
+
+    private static final String CUSTOMER_ID = "d215b5f8-0249-4dc5-89a3-51fd148cfb41";
+    // Hashes onto another of the 16 stripes than CUSTOMER_ID
+    private static final String OTHER_CUSTOMER_ID = "d215b5f8-0249-4dc5-89a3-51fd148cfb43";
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testSameCustomerIsProcessedOneAtATime() {
+        CustomerPaymentLocks customerPaymentLocks = customerPaymentLocks(16);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> payments = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            payments.add(CompletableFuture.runAsync(() -> customerPaymentLocks.callWithCustomerLock(CUSTOMER_ID, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(5);
+                return running.decrementAndGet();
+            }), executorService));
+        }
+        CompletableFuture.allOf(payments.toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    public void testCustomersOnOtherStripesDoNotWait() throws Exception {
+        CustomerPaymentLocks customerPaymentLocks = customerPaymentLocks(16);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> holder = holdLock(customerPaymentLocks, CUSTOMER_ID, locked, release);
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> other = CompletableFuture.supplyAsync(
+                () -> customerPaymentLocks.callWithCustomerLock(OTHER_CUSTOMER_ID, () -> OTHER_CUSTOMER_ID),
+                executorService);
+
+        assertEquals(OTHER_CUSTOMER_ID, other.get(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertTrue(holder.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCustomersSharingAStripeWaitForEachOther() throws Exception {
+        CustomerPaymentLocks customerPaymentLocks = customerPaymentLocks(1);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> holder = holdLock(customerPaymentLocks, CUSTOMER_ID, locked, release);
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> other = CompletableFuture.supplyAsync(
+                () -> customerPaymentLocks.callWithCustomerLock(OTHER_CUSTOMER_ID, () -> OTHER_CUSTOMER_ID),
+                executorService);
+
+        sleep(100);
+        assertFalse(other.isDone());
+        release.countDown();
+        assertEquals(OTHER_CUSTOMER_ID, other.get(5, TimeUnit.SECONDS));
+        assertTrue(holder.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLockIsReleasedWhenProcessingFails() {
+        CustomerPaymentLocks customerPaymentLocks = customerPaymentLocks(16);
+
+        assertThrows(IllegalStateException.class, () -> customerPaymentLocks.callWithCustomerLock(CUSTOMER_ID, () -> {
+            throw new IllegalStateException("Payment failed");
+        }));
+
+        assertEquals(CUSTOMER_ID, CompletableFuture.supplyAsync(
+                () -> customerPaymentLocks.callWithCustomerLock(CUSTOMER_ID, () -> CUSTOMER_ID),
+                executorService).orTimeout(5, TimeUnit.SECONDS).join());
+    }
+
+    private CompletableFuture<Boolean> holdLock(CustomerPaymentLocks customerPaymentLocks, String customerId,
+                                                CountDownLatch locked, CountDownLatch release) {
+        return CompletableFuture.supplyAsync(() -> customerPaymentLocks.callWithCustomerLock(customerId, () -> {
+            locked.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }), executorService);
+    }
+
+    private CustomerPaymentLocks customerPaymentLocks(int stripes) {
+        PaymentServiceConfigData paymentServiceConfigData = new PaymentServiceConfigData();
+        paymentServiceConfigData.setCustomerLockStripes(stripes);
+        return new CustomerPaymentLocks(paymentServiceConfigData);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.food.ordering.system.payment.service.domain;
+
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.domain.vo.PaymentOrderStatus;
+import com.food.ordering.system.domain.vo.PaymentStatus;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.dto.ProcessedMessageKey;
+import com.food.ordering.system.payment.service.domain.dto.ProcessedMessageOutcome;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCancelledMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentCompletedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.PaymentFailedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditLedgerRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ProcessedMessageRepository;
+import com.food.ordering.system.payment.service.domain.vo.CreditEntryId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class PaymentRequestHelperTest {
+
+    private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    private final UUID ORDER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb42");
+    private final String FAILURE_MESSAGE = "Customer with id=" + CUSTOMER_ID + " doesn't have enough credit!";
+
+    private final PaymentDomainService paymentDomainService = mock(PaymentDomainService.class);
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final CreditEntryRepository creditEntryRepository = mock(CreditEntryRepository.class);
+    private final CreditLedgerRepository creditLedgerRepository = mock(CreditLedgerRepository.class);
+
+    private PaymentRequestHelper paymentRequestHelper;
+
+    @BeforeEach
+    public void init() {
+        PaymentServiceConfigData paymentServiceConfigData = new PaymentServiceConfigData();
+        paymentServiceConfigData.setProcessedMessageCacheMaxSize(100);
+        paymentServiceConfigData.setProcessedMessageCacheExpireAfterWriteMs(60000L);
+        paymentRequestHelper = new PaymentRequestHelper(
+                paymentDomainService,
+                new PaymentDataMapper(),
+                paymentRepository,
+                creditEntryRepository,
+                mock(CreditHistoryRepository.class),
+                creditLedgerRepository,
+                mock(CreditLedgerHelper.class),
+                new ProcessedMessageHelper(new InMemoryProcessedMessageRepository(), paymentServiceConfigData,
+                        new SimpleMeterRegistry()),
+                mock(PaymentCompletedMessagePublisher.class),
+                mock(PaymentCancelledMessagePublisher.class),
+                mock(PaymentFailedMessagePublisher.class));
+
+        CustomerId customerId = new CustomerId(CUSTOMER_ID);
+        when(creditEntryRepository.findByCustomerId(customerId)).thenReturn(Optional.of(CreditEntry.builder()
+                .creditEntryId(new CreditEntryId(UUID.randomUUID()))
+                .customerId(customerId)
+                .totalCreditAmount(new Money(new BigDecimal("10.00")))
+                .build()));
+        when(creditLedgerRepository.findByCustomerIdForUpdate(customerId))
+                .thenReturn(Optional.of(CreditLedger.empty(customerId)));
+        // Every payment fails for lack of credit, so the recorded outcome carries failure messages
+        when(paymentDomainService.validateAndInitializePayment(any(), any(), any(), anyList(), anyList(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Payment payment = invocation.getArgument(0);
+                    payment.initializePayment();
+                    payment.updateStatus(PaymentStatus.FAILED);
+                    List<String> failureMessages = invocation.getArgument(4);
+                    failureMessages.add(FAILURE_MESSAGE);
+                    return new PaymentFailedEvent(payment, ZonedDateTime.now(), failureMessages,
+                            invocation.getArgument(6));
+                });
+    }
+
+    @Test
+    public void testBlankSagaIdIsKeyedOnOrderAndStatus() {
+        ProcessedMessageKey blankSagaIdKey = ProcessedMessageKey.of(paymentRequest(""));
+        assertEquals(ProcessedMessageKey.NO_SAGA_ID, blankSagaIdKey.sagaId());
+        assertEquals(ORDER_ID, blankSagaIdKey.orderId());
+        assertEquals(blankSagaIdKey, ProcessedMessageKey.of(paymentRequest(null)));
+
+        Optional<PaymentEvent> paymentEvent = paymentRequestHelper.persistPayment(paymentRequest(""));
+        assertTrue(paymentEvent.isPresent());
+        assertEquals(PaymentStatus.FAILED, paymentEvent.get().getPayment().getPaymentStatus());
+    }
+
+    @Test
+    public void testRedeliveredRequestWithBlankSagaIdRepublishesRecordedOutcome() {
+        assertRedeliveryRepublishesRecordedOutcome("");
+    }
+
+    @Test
+    public void testRedeliveredRequestRepublishesRecordedOutcome() {
+        assertRedeliveryRepublishesRecordedOutcome(UUID.randomUUID().toString());
+    }
+
+    private void assertRedeliveryRepublishesRecordedOutcome(String sagaId) {
+        PaymentEvent paymentEvent = paymentRequestHelper.persistPayment(paymentRequest(sagaId)).orElseThrow();
+        when(paymentRepository.findByOrderId(ORDER_ID)).thenReturn(Optional.of(paymentEvent.getPayment()));
+
+        PaymentEvent redeliveredPaymentEvent =
+                paymentRequestHelper.persistPayment(paymentRequest(sagaId)).orElseThrow();
+
+        verify(paymentDomainService, times(1))
+                .validateAndInitializePayment(any(), any(), any(), anyList(), anyList(), any(), any());
+        verify(paymentRepository, times(1)).save(any());
+        assertInstanceOf(PaymentFailedEvent.class, redeliveredPaymentEvent);
+        assertEquals(paymentEvent.getPayment().getId(), redeliveredPaymentEvent.getPayment().getId());
+        assertEquals(PaymentStatus.FAILED, redeliveredPaymentEvent.getPayment().getPaymentStatus());
+        assertEquals(List.of(FAILURE_MESSAGE), redeliveredPaymentEvent.getFailureMessages());
+    }
+
+    private PaymentRequest paymentRequest(String sagaId) {
+        return PaymentRequest.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(sagaId)
+                .orderId(ORDER_ID.toString())
+                .customerId(CUSTOMER_ID.toString())
+                .price(new BigDecimal("200.00"))
+                .createdAt(Instant.now())
+                .paymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+    }
+
+    private static class InMemoryProcessedMessageRepository implements ProcessedMessageRepository {
+
+        private final Map<ProcessedMessageKey, Optional<ProcessedMessageOutcome>> processedMessages =
+                new ConcurrentHashMap<>();
+
+        @Override
+        public boolean insertIfAbsent(ProcessedMessageKey processedMessageKey, ZonedDateTime processedAt) {
+            return processedMessages.putIfAbsent(processedMessageKey, Optional.empty()) == null;
+        }
+
+        @Override
+        public void updateOutcome(ProcessedMessageKey processedMessageKey,
+                                  ProcessedMessageOutcome processedMessageOutcome) {
+            processedMessages.put(processedMessageKey, Optional.of(new ProcessedMessageOutcome(
+                    processedMessageOutcome.paymentStatus(), List.copyOf(processedMessageOutcome.failureMessages()))));
+        }
+
+        @Override
+        public Optional<ProcessedMessageOutcome> findOutcome(ProcessedMessageKey processedMessageKey) {
+            return processedMessages.getOrDefault(processedMessageKey, Optional.empty());
+        }
+
+        @Override
+        public int deleteChunkProcessedBefore(ZonedDateTime processedAt, int chunkSize) {
+            return 0;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.food.ordering.system.domain.vo.Money;
 import com.food.ordering.system.domain.vo.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditLedger;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
@@ -28,6 +29,7 @@ class PaymentDomainServiceImpl implements PaymentDomainService{
     public PaymentEvent validateAndInitializePayment(
             Payment payment,
             CreditEntry creditEntry,
+            CreditLedger creditLedger,
             List<CreditHistory> creditHistories,
             List<String> failureMessages,
             DomainEventPublisher<PaymentCompletedEvent> paymentCompletedEventPublisher,
@@ -38,8 +40,8 @@ class PaymentDomainServiceImpl implements PaymentDomainService{
         payment.initializePayment();
         validateCreditEntry(payment, creditEntry, failureMessages);
         subtractCreditEntry(payment, creditEntry);
-        updateCreditHistory(payment, creditHistories, TransactionType.DEBIT);
-        validateCreditHistory(creditEntry, creditHistories, failureMessages);
+        updateCreditHistory(payment, creditLedger, creditHistories, TransactionType.DEBIT);
+        validateCreditHistory(creditEntry, creditLedger, failureMessages);
 
         if (failureMessages.isEmpty()) {
             log.info("Payment is initiated for order id: {}", payment.getOrderId().getValue());
@@ -58,6 +60,7 @@ class PaymentDomainServiceImpl implements PaymentDomainService{
     public PaymentEvent validateAndCancelPayment(
             Payment payment,
             CreditEntry creditEntry,
+            CreditLedger creditLedger,
             List<CreditHistory> creditHistories,
             List<String> failureMessages,
             DomainEventPublisher<PaymentCancelledEvent> paymentCancelledEventPublisher,
@@ -66,7 +69,7 @@ class PaymentDomainServiceImpl implements PaymentDomainService{
 
         payment.validatePayment(failureMessages);
         addCreditEntry(payment, creditEntry);
-        updateCreditHistory(payment, creditHistories, TransactionType.CREDIT);
+        updateCreditHistory(payment, creditLedger, creditHistories, TransactionType.CREDIT);
 
         if (failureMessages.isEmpty()) {
             log.info("Payment is cancelled for order id: {}", payment.getOrderId().getValue());
@@ -105,26 +108,26 @@ class PaymentDomainServiceImpl implements PaymentDomainService{
 
     private void updateCreditHistory(
             Payment payment,
+            CreditLedger creditLedger,
             List<CreditHistory> creditHistories,
             TransactionType transactionType
     ) {
-        creditHistories.add(CreditHistory.builder()
+        CreditHistory creditHistory = CreditHistory.builder()
                 .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
                 .customerId(payment.getCustomerId())
                 .amount(payment.getPrice())
                 .transactionType(transactionType)
-                .build());
+                .build();
+        creditHistories.add(creditHistory);
+        creditLedger.addCreditHistory(creditHistory);
     }
 
     private void validateCreditHistory(
             CreditEntry creditEntry,
-            List<CreditHistory> creditHistories,
+            CreditLedger creditLedger,
             List<String> failureMessages
     ) {
-        Money totalCreditHistoryAmount = getTotalHistoryAmount(creditHistories, TransactionType.CREDIT);
-        Money totalDebitHistoryAmount = getTotalHistoryAmount(creditHistories, TransactionType.DEBIT);
-
-        Money recordedTotalCreditAmount = totalCreditHistoryAmount.subtract(totalDebitHistoryAmount);
+        Money recordedTotalCreditAmount = creditLedger.getRecordedCreditAmount();
         if (!recordedTotalCreditAmount.isGreaterEqualThanZero()) {
             log.error("Customer with id: {} doesn't have enough credit according to credit history",
                     creditEntry.getCustomerId().getValue());
@@ -142,11 +145,4 @@ class PaymentDomainServiceImpl implements PaymentDomainService{
         }
     }
 
-    private static Money getTotalHistoryAmount(List<CreditHistory> creditHistories, TransactionType transactionType) {
-        return creditHistories.stream()
-                .filter(creditHistory -> transactionType == creditHistory.getTransactionType())
-                .map(CreditHistory::getAmount)
-                .reduce(Money.ZERO, Money::add);
-    }
-
 }
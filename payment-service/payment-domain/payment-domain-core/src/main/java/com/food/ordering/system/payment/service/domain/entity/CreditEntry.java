@@ -9,6 +9,7 @@ public class CreditEntry extends BaseEntity<CreditEntryId> {
 
     private final CustomerId customerId;
     private Money totalCreditAmount;
+    private final int version;
 
     public void addCreditAmount(Money amount) {
         totalCreditAmount = totalCreditAmount.add(amount);
@@ -22,6 +23,7 @@ public class CreditEntry extends BaseEntity<CreditEntryId> {
         super.setId(builder.creditEntryId);
         customerId = builder.customerId;
         totalCreditAmount = builder.totalCreditAmount;
+        version = builder.version;
     }
 
     public static Builder builder() {
@@ -36,10 +38,15 @@ public class CreditEntry extends BaseEntity<CreditEntryId> {
         return totalCreditAmount;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
     public static final class Builder {
         private CreditEntryId creditEntryId;
         private CustomerId customerId;
         private Money totalCreditAmount;
+        private int version;
 
         private Builder() {
         }
@@ -59,6 +66,11 @@ public class CreditEntry extends BaseEntity<CreditEntryId> {
             return this;
         }
 
+        public Builder version(int val) {
+            version = val;
+            return this;
+        }
+
         public CreditEntry build() {
             return new CreditEntry(this);
         }
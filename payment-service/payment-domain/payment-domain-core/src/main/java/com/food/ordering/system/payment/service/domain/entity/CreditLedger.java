@@ -0,0 +1,82 @@
+package com.food.ordering.system.payment.service.domain.entity;
+
+import com.food.ordering.system.domain.entity.BaseEntity;
+import com.food.ordering.system.domain.vo.CustomerId;
+import com.food.ordering.system.domain.vo.Money;
+import com.food.ordering.system.payment.service.domain.vo.TransactionType;
+
+public class CreditLedger extends BaseEntity<CustomerId> {
+
+    private Money totalCreditAmount;
+    private Money totalDebitAmount;
+
+    public static CreditLedger empty(CustomerId customerId) {
+        return CreditLedger.builder()
+                .customerId(customerId)
+                .totalCreditAmount(Money.ZERO)
+                .totalDebitAmount(Money.ZERO)
+                .build();
+    }
+
+    public void addCreditHistory(CreditHistory creditHistory) {
+        if (creditHistory.getTransactionType() == TransactionType.CREDIT) {
+            totalCreditAmount = totalCreditAmount.add(creditHistory.getAmount());
+        } else {
+            totalDebitAmount = totalDebitAmount.add(creditHistory.getAmount());
+        }
+    }
+
+    public Money getRecordedCreditAmount() {
+        return totalCreditAmount.subtract(totalDebitAmount);
+    }
+
+    public boolean hasSameTotals(CreditLedger other) {
+        return totalCreditAmount.equals(other.totalCreditAmount) && totalDebitAmount.equals(other.totalDebitAmount);
+    }
+
+    private CreditLedger(Builder builder) {
+        super.setId(builder.customerId);
+        totalCreditAmount = builder.totalCreditAmount;
+        totalDebitAmount = builder.totalDebitAmount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Money getTotalCreditAmount() {
+        return totalCreditAmount;
+    }
+
+    public Money getTotalDebitAmount() {
+        return totalDebitAmount;
+    }
+
+    public static final class Builder {
+        private CustomerId customerId;
+        private Money totalCreditAmount;
+        private Money totalDebitAmount;
+
+        private Builder() {
+        }
+
+        public Builder customerId(CustomerId val) {
+            customerId = val;
+            return this;
+        }
+
+        public Builder totalCreditAmount(Money val) {
+            totalCreditAmount = val;
+            return this;
+        }
+
+        public Builder totalDebitAmount(Money val) {
+            totalDebitAmount = val;
+            return this;
+        }
+
+        public CreditLedger build() {
+            return new CreditLedger(this);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.food.ordering.system.payment.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.batch.KafkaBatchProcessor;
 import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
@@ -14,14 +15,18 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentRequestKafkaListener implements KafkaConsumer<PaymentRequestAvroModel> {
 
+    private static final String OPERATION = "payment-request process";
+
     private final PaymentRequestMessageListener paymentRequestMessageListener;
     private final PaymentMessagingDataMapper paymentMessagingDataMapper;
+    private final KafkaBatchProcessor kafkaBatchProcessor;
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}"
@@ -30,7 +35,8 @@ public class PaymentRequestKafkaListener implements KafkaConsumer<PaymentRequest
             @Payload List<PaymentRequestAvroModel> messages,
             @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
             @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
-            @Header(KafkaHeaders.OFFSET) List<Long> offsets
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+            @Header(KafkaHeaders.BATCH_CONVERTED_HEADERS) List<Map<String, Object>> headers
     ) {
         log.info("{} number of payment request received with keys: {}, partitions: {}, and offsets: {}",
                 messages.size(),
@@ -38,16 +44,19 @@ public class PaymentRequestKafkaListener implements KafkaConsumer<PaymentRequest
                 partitions,
                 offsets);
 
-        messages.forEach(paymentRequestAvroModel -> {
-            if (PaymentOrderStatus.PENDING == paymentRequestAvroModel.getPaymentOrderStatus()) {
-                log.info("Processing payment request for order id: {}", paymentRequestAvroModel.getOrderId());
-                paymentRequestMessageListener.completePayment(
-                        paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
-            } else if (PaymentOrderStatus.CANCELLED == paymentRequestAvroModel.getPaymentOrderStatus()) {
-                log.info("Cancelling payment request for order id: {}", paymentRequestAvroModel.getOrderId());
-                paymentRequestMessageListener.cancelPayment(
-                        paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
-            }
-        });
+        kafkaBatchProcessor.process(OPERATION, messages, keys, partitions, offsets, headers,
+                this::processPaymentRequest);
+    }
+
+    private void processPaymentRequest(PaymentRequestAvroModel paymentRequestAvroModel) {
+        if (PaymentOrderStatus.PENDING == paymentRequestAvroModel.getPaymentOrderStatus()) {
+            log.info("Processing payment request for order id: {}", paymentRequestAvroModel.getOrderId());
+            paymentRequestMessageListener.completePayment(
+                    paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
+        } else if (PaymentOrderStatus.CANCELLED == paymentRequestAvroModel.getPaymentOrderStatus()) {
+            log.info("Cancelling payment request for order id: {}", paymentRequestAvroModel.getOrderId());
+            paymentRequestMessageListener.cancelPayment(
+                    paymentMessagingDataMapper.paymentRequestAvroModelToPaymentRequest(paymentRequestAvroModel));
+        }
     }
 }
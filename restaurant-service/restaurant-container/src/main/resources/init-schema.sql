@@ -64,40 +64,112 @@ ALTER TABLE restaurant.restaurant_products
         ON DELETE RESTRICT
     NOT VALID;
 
-DROP MATERIALIZED VIEW IF EXISTS restaurant.order_restaurant_m_view;
-
-CREATE MATERIALIZED VIEW restaurant.order_restaurant_m_view
-TABLESPACE pg_default
-AS
-SELECT r.id AS restaurant_id,
-       r.name AS restaurant_name,
-       r.active AS restaurant_active,
-       p.id AS product_id,
-       p.name AS product_name,
-       p.price AS product_price,
-       p.available AS product_available
-FROM restaurant.restaurants r,
-     restaurant.products p,
-     restaurant.restaurant_products rp
-WHERE r.id = rp.restaurant_id AND p.id = rp.product_id
-    WITH DATA;
-
-refresh materialized VIEW restaurant.order_restaurant_m_view;
-
-DROP function IF EXISTS restaurant.refresh_order_restaurant_m_view;
-
-CREATE OR replace function restaurant.refresh_order_restaurant_m_view()
+DROP TABLE IF EXISTS restaurant.order_restaurant_m_view CASCADE;
+
+CREATE TABLE restaurant.order_restaurant_m_view
+(
+    restaurant_id uuid NOT NULL,
+    product_id uuid NOT NULL,
+    restaurant_name character varying COLLATE pg_catalog."default" NOT NULL,
+    restaurant_active boolean NOT NULL,
+    product_name character varying COLLATE pg_catalog."default" NOT NULL,
+    product_price numeric(10,2) NOT NULL,
+    product_available boolean NOT NULL,
+    CONSTRAINT order_restaurant_m_view_pkey PRIMARY KEY (restaurant_id, product_id)
+);
+
+DROP function IF EXISTS restaurant.project_restaurant_product;
+
+CREATE OR replace function restaurant.project_restaurant_product()
 returns trigger
 AS '
 BEGIN
-    refresh materialized VIEW restaurant.order_restaurant_m_view;
+    IF TG_OP = ''TRUNCATE'' THEN
+        TRUNCATE restaurant.order_restaurant_m_view;
+        PERFORM pg_notify(''restaurant_catalog'', '''');
+        return null;
+    END IF;
+
+    IF TG_OP IN (''UPDATE'', ''DELETE'') THEN
+        DELETE FROM restaurant.order_restaurant_m_view v
+        WHERE v.restaurant_id = OLD.restaurant_id
+          AND v.product_id = OLD.product_id
+          AND NOT EXISTS (SELECT 1 FROM restaurant.restaurant_products rp
+                          WHERE rp.restaurant_id = OLD.restaurant_id AND rp.product_id = OLD.product_id);
+        PERFORM pg_notify(''restaurant_catalog'', OLD.restaurant_id::text);
+    END IF;
+
+    IF TG_OP IN (''INSERT'', ''UPDATE'') THEN
+        INSERT INTO restaurant.order_restaurant_m_view(restaurant_id, product_id, restaurant_name, restaurant_active,
+                                                       product_name, product_price, product_available)
+        SELECT r.id, p.id, r.name, r.active, p.name, p.price, p.available
+        FROM restaurant.restaurants r,
+             restaurant.products p
+        WHERE r.id = NEW.restaurant_id AND p.id = NEW.product_id
+        ON CONFLICT (restaurant_id, product_id) DO NOTHING;
+        PERFORM pg_notify(''restaurant_catalog'', NEW.restaurant_id::text);
+    END IF;
     return null;
 END;
 '  LANGUAGE plpgsql;
 
-DROP trigger IF EXISTS refresh_order_restaurant_m_view ON restaurant.restaurant_products;
+DROP trigger IF EXISTS project_restaurant_product ON restaurant.restaurant_products;
+
+CREATE trigger project_restaurant_product
+after INSERT OR UPDATE OR DELETE
+ON restaurant.restaurant_products FOR each row
+EXECUTE PROCEDURE restaurant.project_restaurant_product();
 
-CREATE trigger refresh_order_restaurant_m_view
-after INSERT OR UPDATE OR DELETE OR truncate
+DROP trigger IF EXISTS project_restaurant_product_truncate ON restaurant.restaurant_products;
+
+CREATE trigger project_restaurant_product_truncate
+after truncate
 ON restaurant.restaurant_products FOR each statement
-EXECUTE PROCEDURE restaurant.refresh_order_restaurant_m_view();
\ No newline at end of file
+EXECUTE PROCEDURE restaurant.project_restaurant_product();
+
+DROP function IF EXISTS restaurant.project_restaurant;
+
+CREATE OR replace function restaurant.project_restaurant()
+returns trigger
+AS '
+BEGIN
+    UPDATE restaurant.order_restaurant_m_view
+    SET restaurant_name = NEW.name,
+        restaurant_active = NEW.active
+    WHERE restaurant_id = NEW.id;
+    PERFORM pg_notify(''restaurant_catalog'', NEW.id::text);
+    return null;
+END;
+'  LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS project_restaurant ON restaurant.restaurants;
+
+CREATE trigger project_restaurant
+after UPDATE OF name, active
+ON restaurant.restaurants FOR each row
+EXECUTE PROCEDURE restaurant.project_restaurant();
+
+DROP function IF EXISTS restaurant.project_product;
+
+CREATE OR replace function restaurant.project_product()
+returns trigger
+AS '
+BEGIN
+    UPDATE restaurant.order_restaurant_m_view
+    SET product_name = NEW.name,
+        product_price = NEW.price,
+        product_available = NEW.available
+    WHERE product_id = NEW.id;
+    PERFORM pg_notify(''restaurant_catalog'', v.restaurant_id::text)
+    FROM restaurant.order_restaurant_m_view v
+    WHERE v.product_id = NEW.id;
+    return null;
+END;
+'  LANGUAGE plpgsql;
+
+DROP trigger IF EXISTS project_product ON restaurant.products;
+
+CREATE trigger project_product
+after UPDATE OF name, price, available
+ON restaurant.products FOR each row
+EXECUTE PROCEDURE restaurant.project_product();
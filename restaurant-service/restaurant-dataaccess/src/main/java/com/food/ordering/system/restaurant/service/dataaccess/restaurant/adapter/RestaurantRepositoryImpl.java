@@ -1,7 +1,7 @@
 package com.food.ordering.system.restaurant.service.dataaccess.restaurant.adapter;
 
 import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
-import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.dataaccess.restaurant.cache.RestaurantCatalogCache;
 import com.food.ordering.system.restaurant.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.RestaurantRepository;
@@ -16,14 +16,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class RestaurantRepositoryImpl implements RestaurantRepository {
 
-    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantCatalogCache restaurantCatalogCache;
     private final RestaurantDataAccessMapper restaurantDataAccessMapper;
 
     @Override
     public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
         List<UUID> restaurantProducts =
                 restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant);
-        Optional<List<RestaurantEntity>> restaurantEntities = restaurantJpaRepository
+        Optional<List<RestaurantEntity>> restaurantEntities = restaurantCatalogCache
                 .findByRestaurantIdAndProductIdIn(restaurant.getId().getValue(),
                         restaurantProducts);
         return restaurantEntities.map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
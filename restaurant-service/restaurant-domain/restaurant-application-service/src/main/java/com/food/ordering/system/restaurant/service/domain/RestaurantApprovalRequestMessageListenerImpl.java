@@ -3,6 +3,8 @@ package com.food.ordering.system.restaurant.service.domain;
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
 import com.food.ordering.system.restaurant.service.domain.ports.input.message.listener.RestaurantApprovalRequestMessageListener;
+import com.food.ordering.system.saga.SagaStepObservation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,11 +15,13 @@ import org.springframework.stereotype.Service;
 public class RestaurantApprovalRequestMessageListenerImpl implements RestaurantApprovalRequestMessageListener {
 
     private final RestaurantApprovalRequestHelper restaurantApprovalRequestHelper;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     public void approveOrder(RestaurantApprovalRequest restaurantApprovalRequest) {
-        OrderApprovalEvent orderApprovalEvent
-                = restaurantApprovalRequestHelper.persistOrderApproval(restaurantApprovalRequest);
+        OrderApprovalEvent orderApprovalEvent = SagaStepObservation.of(observationRegistry, "approval", "approve",
+                        restaurantApprovalRequest.getOrderId())
+                .observe(() -> restaurantApprovalRequestHelper.persistOrderApproval(restaurantApprovalRequest));
         orderApprovalEvent.fire();
     }
 }